@@ -2,10 +2,14 @@ package com.balloon.app;
 
 import com.balloon.core.ScreenId;
 import com.balloon.core.ScreenRouter;
+import com.balloon.items.ItemTables;
+import com.balloon.ui.assets.ImageAssets;
+import com.balloon.ui.render.RenderMode;
 
 // ↓ 트리 구조에 맞춰 패키지 경로 정확히 임포트
 import com.balloon.ui.StartMenuUI;        // ui/theme/StartMenuUI.java
 import com.balloon.ui.screens.GamePanel;        // ui/screens/GamePanel.java
+import com.balloon.ui.screens.ResultScreen;     // ui/screens/ResultScreen.java
 import com.balloon.ui.RankingScreenUI;    // ui/theme/RankingScreenUI.java
 import com.balloon.ui.GuideScreenUI;
 import com.balloon.ui.ModeSelectScreenUI;
@@ -15,6 +19,18 @@ import java.awt.*;
 
 public class Launcher {
     public static void main(String[] args) {
+        final long t0 = System.nanoTime();
+
+        // --active-render : 플레이 영역을 BufferStrategy 렌더 스레드로 그림(기본은 JPanel repaint)
+        // --render-stats  : 게임 화면을 떠날 때 루프/렌더 프레임 통계 출력
+        RenderMode.applyArgs(args);
+
+        // 이미지 에셋은 바로 병렬 디코딩 시작(프레임 표시를 막지 않음)
+        ImageAssets.preloadAll();
+
+        // 아이템 정의표 읽기 + data/items.csv 변경 감시(재시작 없이 확률 조정)
+        ItemTables.startWatching();
+
         try { UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName()); } catch (Exception ignore) {}
 
         JFrame frame = new JFrame("Balloon Typer");
@@ -24,16 +40,23 @@ public class Launcher {
 
         ScreenRouter router = new ScreenRouter(frame.getContentPane(), new CardLayout());
 
-        // 화면 등록
-        router.register(ScreenId.START,   new StartMenuUI(router));     // OK
-        router.register(ScreenId.MODE_SELECT, new ModeSelectScreenUI(router)); // ★ 추가
-        router.register(ScreenId.GAME,    new GamePanel(router));       // ★ 여기 수정: () → (router)
-        router.register(ScreenId.GUIDE,   new GuideScreenUI(router));  // 임시 화면
-        router.register(ScreenId.RANKING, new RankingScreenUI(router)); // ★ 여기 수정: () → (router)
+        // 화면 등록: 처음 보여질 때 생성(지연). 게임 화면 타이머/랭킹 CSV 파싱이 부팅 시 돌지 않음
+        router.register(ScreenId.START,       () -> new StartMenuUI(router));
+        router.register(ScreenId.MODE_SELECT, () -> new ModeSelectScreenUI(router));
+        router.register(ScreenId.GAME,        () -> new GamePanel(router));
+        router.register(ScreenId.GUIDE,       () -> new GuideScreenUI(router));
+        router.register(ScreenId.RANKING,     () -> new RankingScreenUI(router));
+        router.register(ScreenId.RESULT,      () -> new ResultScreen(router));
 
         // 첫 화면
         router.show(ScreenId.START);
         frame.setVisible(true);
+
+        // 첫 프레임이 뜬 뒤: 시간 기록 + 다음 화면(모드 선택) 미리 생성
+        SwingUtilities.invokeLater(() -> {
+            System.out.println("[Launcher] first frame in " + (System.nanoTime() - t0) / 1_000_000L + " ms");
+            router.prewarm(ScreenId.MODE_SELECT);
+        });
     }
 
     // GUIDE 임시 대체용
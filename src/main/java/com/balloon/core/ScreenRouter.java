@@ -4,14 +4,20 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * CardLayout 기반 라우터
+ * - register(id, Supplier)로 등록한 화면은 처음 show()/get() 될 때 만들어진다(지연 생성).
+ * - 화면 전환 시 이전 화면의 Showable.onHidden(), 새 화면의 Showable.onShown()을 호출한다.
+ *   → 숨겨진 화면은 자기 타이머를 멈출 수 있다.
  */
 public class ScreenRouter {
     private final Container root;
     private final CardLayout cards;
     private final Map<String, JComponent> views = new HashMap<>();
+    private final Map<String, Supplier<? extends JComponent>> factories = new HashMap<>();
+    private String currentId;
 
     public ScreenRouter(Container root, CardLayout cards) {
         this.root = root;
@@ -19,21 +25,68 @@ public class ScreenRouter {
         root.setLayout(cards);
     }
 
+    /** 이미 만들어진 화면 등록(즉시 생성) */
     public void register(String id, JComponent view) {
         views.put(id, view);
         root.add(view, id);
     }
 
+    /** 지연 등록: 처음 보여질 때 factory로 화면을 만든다 */
+    public void register(String id, Supplier<? extends JComponent> factory) {
+        factories.put(id, factory);
+    }
+
     public void show(String id) {
+        JComponent next = ensureBuilt(id);
+        if (id.equals(currentId)) {
+            cards.show(root, id);
+            return;
+        }
+
+        JComponent prev = (currentId != null) ? views.get(currentId) : null;
+        if (prev instanceof Showable s) s.onHidden();
+
         cards.show(root, id);
+        currentId = id;
+
+        if (next instanceof Showable s) s.onShown();
+    }
+
+    /**
+     * 다음에 보여질 가능성이 큰 화면을 미리 만들어 둔다.
+     * Swing 컴포넌트는 EDT에서 만들어야 하므로, 현재 이벤트 처리가 끝난 뒤(invokeLater) 생성한다.
+     */
+    public void prewarm(String id) {
+        if (views.containsKey(id) || !factories.containsKey(id)) return;
+        SwingUtilities.invokeLater(() -> ensureBuilt(id));
+    }
+
+    /** 현재 보이는 화면 id(아직 show 전이면 null) */
+    public String getCurrentId() {
+        return currentId;
     }
 
     public JComponent getView(String id) {
-        return views.get(id);
+        return ensureBuilt(id);
     }
 
     // ⭐ 기존 코드 호환용: GamePanel 등에서 router.get("...")를 쓰는 경우 지원
     public JComponent get(String id) {
-        return views.get(id);
+        return ensureBuilt(id);
+    }
+
+    /** 아직 안 만들어진 지연 등록 화면이면 지금 만들어 카드에 추가 */
+    private JComponent ensureBuilt(String id) {
+        JComponent view = views.get(id);
+        if (view != null) return view;
+
+        Supplier<? extends JComponent> factory = factories.remove(id);
+        if (factory == null) return null;
+
+        view = factory.get();
+        views.put(id, view);
+        root.add(view, id);
+        root.revalidate();
+        return view;
     }
 }
@@ -0,0 +1,982 @@
+package com.balloon.data;
+
+import com.balloon.ranking.RankingColumns;
+import com.balloon.ranking.RankingEntry;
+import com.balloon.util.CsvReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.zip.CRC32;
+
+/**
+ * BinaryRankingRepository
+ * - 모든 랭킹 기록을 하나의 "고정 폭 바이너리 로그"(data/ranking.bin)에 덧붙여 저장하는 저장소.
+ *   (예전의 RankingCSV / RankingCsvRepository / CsvRankingRepository 세 가지 CSV 경로를 대체)
+ * - 파일 = 헤더(64B, CRC32 포함) + 레코드(104B) × N. 레코드 수는 파일 길이로 계산한다.
+ * - 레코드마다 [본문 길이][본문 CRC32][본문 96B] → 쓰다 만(찢어진) 레코드를 알아볼 수 있다.
+ *   열 때 헤더의 체크포인트(마지막 fsync 때 검증된 레코드 수) 이후만 검사하고,
+ *   처음으로 깨진 레코드부터 파일을 잘라낸다 → 여는 비용은 전체 크기가 아니라 마지막 체크포인트 이후 분량에 비례.
+ * - compact()와 v1 → v2 변환은 임시 파일에 전부 쓰고 fsync 후 rename(원자적 교체).
+ *   교체할 때마다 헤더의 세대 번호(generation)가 바뀐다 → 낡은 파일을 열고 있던 다른 프로세스는
+ *   다음 잠금 때 이를 보고 새 파일을 다시 연다(POSIX에서 지워진 옛 inode에 계속 덧붙이지 않도록).
+ * - 읽기는 메모리 매핑(MappedByteBuffer)에서 필요한 숫자 필드만 바로 꺼낸다 → 텍스트 파싱 없음.
+ * - 상위 LEADERBOARD_SIZE개는 LeaderboardIndex(data/ranking.idx)가 append마다 O(log N)으로 유지한다.
+ *   → topEntries(n ≤ LEADERBOARD_SIZE)는 n개만 디코딩(전체 로그를 훑지 않음).
+ *   그보다 큰 n은 매핑된 숫자 필드만 보는 크기 n 힙으로 고른다.
+ * - 전체 기록을 정렬해 보여줄 때는 order(RankingSort)가 기준별 레코드 번호 순열을 만들어 캐시하고
+ *   (새 기록은 병합), 화면은 readColumns(열 배열, 순열, from, to)로 보이는 구간만 디코딩한다.
+ * - 플레이어별 통계(판 수/최고/평균/정확도 추세/백분위)는 PlayerStatsIndex(data/ranking.players)가
+ *   append마다 증분 갱신 → playerStats(name)은 로그 크기와 무관하게 마이크로초 단위.
+ * - 전체 점수 분포는 ScoreHistogram(data/ranking.hist)으로 요약 → scoreStanding(score)가 "상위 몇 %/몇 위"를 즉시 계산.
+ * - 로그 파일이 처음 만들어질 때 기존 CSV(data/ranking.csv, ./ranking.csv)를 한 번 가져온다.
+ * - 여러 프로세스(같은 공유 폴더를 쓰는 여러 대의 기계)가 한 로그에 덧붙일 수 있다:
+ *   쓰기/체크포인트/열기 복구/교체는 파일 잠금(FileLock) 안에서 하고, 쓰기 전에 남이 덧붙인 레코드를 먼저 따라잡는다.
+ *   잠금은 로그가 아니라 교체되지 않는 옆 파일(ranking.bin.lock)에 건다 → rename 뒤에도 같은 잠금을 공유.
+ *   refresh()는 파일 끝에 새로 붙은 레코드만 검증해 인덱스/통계에 반영한다(RankingLogWatcher가 호출).
+ * - 모든 공개 메서드는 synchronized(EDT/백그라운드 어디서 불러도 됨). IO 오류는 로그만 남기고 빈 결과.
+ */
+public final class BinaryRankingRepository implements RankingRepository {
+
+    // ---------- 파일 형식(v2) ----------
+    static final int MAGIC = 0x4254524B;   // "BTRK"
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 104;    // 길이(4) + CRC(4) + 본문(96)
+    static final int PAYLOAD_SIZE = 96;
+    static final int NAME_BYTES = 64;      // UTF-8, 넘치면 글자 경계에서 자름
+
+    // v1(길이/CRC 없는 96B 레코드) — 열 때 v2로 변환
+    private static final short V1 = 1;
+    private static final int V1_RECORD_SIZE = 96;
+    private static final int V1_SCORE = 0, V1_ACC = 4, V1_TIME = 12, V1_EPOCH = 16, V1_NAME_LEN = 24, V1_NAME = 26;
+
+    /** 인덱스로 유지하는 상위 기록 수(랭킹 화면 표시 수) */
+    public static final int LEADERBOARD_SIZE = 100;
+
+    // 헤더 오프셋
+    private static final int H_MAGIC = 0, H_VERSION = 4, H_HEADER_SIZE = 6, H_RECORD_SIZE = 8,
+            H_CREATED = 12, H_CHECKPOINT = 20, H_GENERATION = 24, H_CRC = 60;
+
+    // 레코드 오프셋(본문: 8 ~ 104, 이름 끝 98 이후 6바이트 예약)
+    private static final int R_LEN = 0, R_CRC = 4,
+            R_SCORE = 8, R_ACC = 12, R_TIME = 20, R_EPOCH = 24, R_NAME_LEN = 32, R_NAME = 34;
+
+    /** 랭킹 정렬: 점수 ↓, 정확도 ↓, 남은 시간 ↓, 최신 기록 우선 */
+    public static final Comparator<RankingEntry> RANK_ORDER = (a, b) -> {
+        int c = Integer.compare(b.score, a.score);
+        if (c != 0) return c;
+        c = Double.compare(b.accuracy, a.accuracy);
+        if (c != 0) return c;
+        c = Integer.compare(b.timeLeft, a.timeLeft);
+        if (c != 0) return c;
+        return Long.compare(b.epochMillis, a.epochMillis);
+    };
+
+    private static volatile BinaryRankingRepository INSTANCE;
+
+    /** 기본 위치(FilesConfig.RANKING_LOG)의 공유 저장소 */
+    public static BinaryRankingRepository getInstance() {
+        if (INSTANCE == null) {
+            synchronized (BinaryRankingRepository.class) {
+                if (INSTANCE == null) INSTANCE = new BinaryRankingRepository(
+                        Paths.get(FilesConfig.RANKING_LOG), Paths.get(FilesConfig.RANKING_INDEX),
+                        Paths.get(FilesConfig.RANKING_PLAYERS), Paths.get(FilesConfig.RANKING_HIST));
+            }
+        }
+        return INSTANCE;
+    }
+
+    private final Path path;
+    private final LeaderboardIndex board;
+    private final PlayerStatsIndex stats;
+    private final ScoreHistogram hist = new ScoreHistogram();
+    private final Path histPath;
+    private final RankingOrders orders = new RankingOrders();
+    private final Path lockPath;
+    private FileChannel lockCh;     // 잠금 전용(로그가 교체돼도 그대로인 파일)
+    private FileChannel ch;
+    private MappedByteBuffer map;   // [헤더 뒤 ~ mappedCount 레코드] 읽기 전용 매핑
+    private int mappedCount = -1;
+    private int count;
+    private int checkpoint;         // 디스크까지 기록이 확인된 레코드 수(헤더에 저장)
+    private long generation;        // 지금 열고 있는 로그 파일의 세대(교체될 때마다 바뀜)
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    private final ByteBuffer rec = ByteBuffer.allocate(RECORD_SIZE);
+
+    /** 다른 위치의 로그/인덱스를 열 때(도구/점검용) */
+    BinaryRankingRepository(Path path, Path indexPath) {
+        this(path, indexPath, indexPath.resolveSibling(path.getFileName() + ".players"),
+                indexPath.resolveSibling(path.getFileName() + ".hist"));
+    }
+
+    BinaryRankingRepository(Path path, Path indexPath, Path playersPath, Path histPath) {
+        this.path = path;
+        this.lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        this.board = new LeaderboardIndex(indexPath, LEADERBOARD_SIZE);
+        this.stats = new PlayerStatsIndex(playersPath);
+        this.histPath = histPath;
+    }
+
+    // ---------- RankingRepository ----------
+
+    /** 이름/점수만 있는 기록 저장(정확도/남은 시간 0, 현재 시각) */
+    @Override
+    public synchronized void save(ScoreEntry entry) {
+        if (entry == null) return;
+        append(new RankingEntry(entry.getName(), entry.getScore(), 0.0, 0, System.currentTimeMillis()));
+    }
+
+    /** 저장 순서대로 전부(이름/점수만) */
+    @Override
+    public synchronized List<ScoreEntry> loadAll() {
+        List<RankingEntry> all = readAll();
+        List<ScoreEntry> out = new ArrayList<>(all.size());
+        for (RankingEntry e : all) out.add(new ScoreEntry(e.name, e.score));
+        return out;
+    }
+
+    /** 랭킹 순 상위 N(이름/점수만) */
+    @Override
+    public synchronized List<ScoreEntry> topN(int n) {
+        List<RankingEntry> top = topEntries(n);
+        List<ScoreEntry> out = new ArrayList<>(top.size());
+        for (RankingEntry e : top) out.add(new ScoreEntry(e.name, e.score));
+        return out;
+    }
+
+    // ---------- 전체 필드 API ----------
+
+    /** 기록 하나를 로그 끝에 덧붙임(호출한 스레드에서 바로 씀 — UI에서는 RankingWriter 사용) */
+    public synchronized void append(RankingEntry e) {
+        if (e == null) return;
+        try {
+            appendAll(List.of(e));
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /** 여러 기록을 한 번에 덧붙임(인덱스 파일 저장은 한 번). IO 오류는 호출자에게 */
+    public synchronized void appendAll(List<RankingEntry> entries) throws IOException {
+        ensureOpen();
+        FileLock lock = lockLog();
+        try {
+            reopenIfReplaced();
+            catchUp(); // 다른 프로세스가 덧붙인 기록 뒤에 이어 씀
+            for (RankingEntry e : entries) {
+                if (e != null) appendRecord(e);
+            }
+            board.save();
+            hist.save(histPath);
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * 다른 프로세스가 로그 끝에 덧붙인 레코드를 반영(인덱스/통계/히스토그램 포함).
+     * 쓰는 중인(아직 CRC가 맞지 않는) 레코드에서 멈추고, 잘라내지는 않는다.
+     * @return 새로 반영한 레코드 수
+     */
+    public synchronized int refresh() {
+        try {
+            ensureOpen();
+            FileLock lock = lockLog();
+            try {
+                reopenIfReplaced();
+                return catchUp();
+            } finally {
+                lock.release();
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return 0;
+        }
+    }
+
+    /** 지금까지 쓴 레코드를 디스크까지 강제 기록(fsync) 후 체크포인트 전진 */
+    public synchronized void force() throws IOException {
+        if (ch == null) return;
+        FileLock lock = lockLog();
+        try {
+            if (!reopenIfReplaced()) sync();
+        } finally {
+            lock.release();
+        }
+    }
+
+    /** force() 본체(파일 잠금은 호출자가) */
+    private void sync() throws IOException {
+        ch.force(false);
+        // 데이터가 디스크에 닿은 뒤에만 체크포인트를 올림(헤더는 다음 fsync 때 같이 내려감)
+        if (checkpoint != count) writeCheckpoint(count);
+        stats.maybeSave();
+    }
+
+    /**
+     * 로그 전체를 검사해 CRC가 맞는 레코드만 새 파일에 쓰고 원자적으로 교체한다.
+     * (여는 시점의 복구는 체크포인트 이후만 보므로, 전체 점검이 필요할 때 호출)
+     * - 읽기부터 교체, 인덱스 재생성까지 파일 잠금 안에서 한다(그동안 다른 프로세스의 덧붙이기는 기다림).
+     * - Windows에서는 매핑된 파일을 rename할 수 없으므로 채널로 읽고, 교체 전에 채널/매핑을 놓는다.
+     *   다른 프로세스가 아직 매핑 중이면 교체가 실패(IOException)하고 원래 로그는 그대로 남는다.
+     * @return 버린 레코드 수
+     */
+    public synchronized int compact() throws IOException {
+        ensureOpen();
+        FileLock lock = lockLog();
+        try {
+            reopenIfReplaced();
+            catchUp();
+            List<RankingEntry> keep = readValid();
+            int dropped = count - keep.size();
+            long next = nextGeneration(generation);
+            dropChannel();
+            rewriteAtomically(keep, next);
+            board.discard(); // 레코드 번호가 바뀌었을 수 있음
+            stats.discard();
+            hist.discard(histPath);
+            openLocked();    // 새 파일 열기 + 인덱스 다시 만들기
+            System.out.println("[BinaryRankingRepository] compacted: kept " + keep.size() + ", dropped " + dropped);
+            return dropped;
+        } finally {
+            lock.release();
+        }
+    }
+
+    /** 저장된 기록 수 */
+    public synchronized int size() {
+        try {
+            ensureOpen();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return 0;
+        }
+        return count;
+    }
+
+    /** 저장 순서대로 전부 */
+    public synchronized List<RankingEntry> readAll() {
+        try {
+            ByteBuffer v = view();
+            List<RankingEntry> out = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) out.add(decode(v, i));
+            return out;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /** 저장 순서대로 전부를 열 배열 표현으로(행 객체 없이, 이름은 사전으로 공유) */
+    public synchronized RankingColumns readColumns() {
+        RankingColumns out = new RankingColumns(Math.max(1, count));
+        try {
+            ByteBuffer v = view();
+            for (int i = 0; i < count; i++) addTo(out, v, i);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+        return out;
+    }
+
+    /** records[from, to)를 그 순서대로 out에 덧붙임(범위를 벗어난 번호는 빈 행) */
+    public synchronized void readColumns(RankingColumns out, int[] records, int from, int to) {
+        try {
+            ByteBuffer v = view();
+            for (int k = from; k < to; k++) {
+                int i = records[k];
+                if (i >= 0 && i < count) addTo(out, v, i);
+                else out.addEmpty();
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            for (int k = out.size(); k < to - from; k++) out.addEmpty();
+        }
+    }
+
+    /** i번째(저장 순서) 기록 */
+    public synchronized RankingEntry get(int i) {
+        try {
+            ByteBuffer v = view();
+            if (i < 0 || i >= count) throw new IndexOutOfBoundsException(i + " / " + count);
+            return decode(v, i);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 랭킹 순 상위 N.
+     * - N ≤ LEADERBOARD_SIZE(또는 인덱스가 전체를 담고 있음): 인덱스 순서대로 N개만 디코딩 → O(N)
+     * - 그 외: 매핑된 숫자 필드만 비교하는 크기 N 최소 힙 → O(total · log N), 디코딩은 결과 N개만
+     */
+    public synchronized List<RankingEntry> topEntries(int n) {
+        if (n <= 0) return Collections.emptyList();
+        try {
+            ByteBuffer v = view();
+            if (n <= board.capacity() || board.size() == count) {
+                int[] idx = board.records(n);
+                List<RankingEntry> out = new ArrayList<>(idx.length);
+                for (int i : idx) out.add(decode(v, i));
+                return out;
+            }
+            Comparator<Integer> rank = (i, j) -> compareAt(v, i, j);
+            PriorityQueue<Integer> worstFirst = new PriorityQueue<>(Math.min(n, Math.max(1, count)) + 1, rank.reversed());
+            for (int i = 0; i < count; i++) {
+                if (worstFirst.size() < n) {
+                    worstFirst.add(i);
+                } else if (compareAt(v, i, worstFirst.peek()) < 0) {
+                    worstFirst.poll();
+                    worstFirst.add(i);
+                }
+            }
+            List<Integer> idx = new ArrayList<>(worstFirst);
+            idx.sort(rank);
+            List<RankingEntry> out = new ArrayList<>(idx.size());
+            for (int i : idx) out.add(decode(v, i));
+            return out;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 기준별 정렬 순열(레코드 번호, 오름차순 — 내림차순은 뒤에서부터 읽기).
+     * - 처음엔 전체 정렬, 이후엔 늘어난 레코드만 정렬해 병합한다. 결과는 캐시.
+     * - 정렬은 저장소 잠금 밖에서 한다(오래 걸려도 페이지 읽기/저장이 막히지 않음).
+     * - 반환 배열은 읽기 전용으로 취급할 것(다른 호출자와 공유됨).
+     */
+    public int[] order(RankingSort key) {
+        RankingOrders.Snapshot base;
+        ByteBuffer v;
+        int n;
+        synchronized (this) {
+            try {
+                v = view().duplicate();
+            } catch (IOException ex) {
+                ex.printStackTrace();
+                return new int[0];
+            }
+            n = count;
+            base = orders.cached(key);
+        }
+        if (base.order.length >= n) return base.order;
+        int[] o = RankingOrders.extend(key, v, base.order, n);
+        orders.publish(key, base, o);
+        return o;
+    }
+
+    /** ranks[레코드 번호] = 랭킹 순위(0부터). order(RANK)가 덮는 레코드까지만 */
+    public int[] ranks() {
+        order(RankingSort.RANK);
+        return orders.ranks();
+    }
+
+    /** 플레이어 통계(이름 앞뒤 공백 무시). 기록이 없으면 null */
+    public synchronized PlayerStats playerStats(String name) {
+        try {
+            ensureOpen();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+        return stats.get(name);
+    }
+
+    /**
+     * 이 점수가 지금까지의 전체 기록 중 어디쯤인지(히스토그램 요약으로 계산, 로그를 읽지 않음).
+     * 계산은 즉시지만 저장소 잠금을 잡고 처음이면 열기/복구까지 하므로, UI에서는 EDT 밖에서 부를 것.
+     */
+    public synchronized ScoreHistogram.Standing scoreStanding(int score) {
+        try {
+            ensureOpen();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+        return hist.standing(score);
+    }
+
+    /** 기록이 있는 플레이어 수 */
+    public synchronized int playerCount() {
+        try {
+            ensureOpen();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return 0;
+        }
+        return stats.playerCount();
+    }
+
+    /** fsync + 파일 닫기(다음 호출 때 다시 연다) */
+    public synchronized void close() {
+        if (ch != null) {
+            try {
+                FileLock lock = lockLog();
+                try {
+                    if (!reopenIfReplaced()) { // 교체된 옛 파일의 통계로 새 인덱스를 덮어쓰지 않도록
+                        sync();
+                        stats.flush();
+                    }
+                } finally {
+                    lock.release();
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+            dropChannel();
+        }
+        if (lockCh != null) {
+            try { lockCh.close(); } catch (IOException ignore) {}
+            lockCh = null;
+        }
+    }
+
+    public Path getPath() { return path; }
+
+    // ---------- 열기 / 헤더 ----------
+
+    private void ensureOpen() throws IOException {
+        if (ch != null) return;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        FileLock lock = lockLog(); // 다른 프로세스가 쓰는 도중의 꼬리를 잘라내거나, 같은 v1 로그를 동시에 변환하지 않도록
+        try {
+            openLocked();
+        } finally {
+            lock.release();
+        }
+    }
+
+    /** 로그 파일을 열고(없으면 만들고, v1이면 변환) 복구/인덱스까지 준비(파일 잠금은 호출자가) */
+    private void openLocked() throws IOException {
+        orders.clear(); // 다시 여는 동안 복구/compact로 레코드 번호가 바뀔 수 있음
+        boolean fresh = Files.notExists(path) || Files.size(path) < HEADER_SIZE;
+        int version = fresh ? 0 : readHeader();
+        if (!fresh && version == 0) {
+            Path bad = path.resolveSibling(path.getFileName() + ".corrupt-" + System.currentTimeMillis());
+            Files.move(path, bad, StandardCopyOption.REPLACE_EXISTING);
+            System.err.println("[BinaryRankingRepository] bad header → moved to " + bad);
+            fresh = true;
+        }
+        if (!fresh && version == V1) {
+            migrateV1();
+            board.discard(); // 레코드 번호는 같지만 인덱스는 새로 검증
+            stats.discard();
+            hist.discard(histPath);
+            readHeader();
+        }
+
+        ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (fresh) {
+            ch.truncate(0);
+            writeHeader(0);
+            count = 0;
+            board.clear();
+            stats.clear();
+            hist.clear();
+            importLegacyCsv();
+            board.save();
+            stats.save();
+            hist.save(histPath);
+            sync();
+        } else {
+            recover();
+            openIndex();
+        }
+    }
+
+    /** 잠금 전용 파일을 잠금(한 저장소 안의 스레드끼리는 synchronized가 먼저 막으므로 프로세스 사이용) */
+    private FileLock lockLog() throws IOException {
+        if (lockCh == null) {
+            lockCh = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return lockCh.lock();
+    }
+
+    /**
+     * 잠금을 잡은 직후 호출: 다른 프로세스가 로그를 교체했으면(헤더 세대가 다름)
+     * 옛 파일의 채널/매핑/메모리 인덱스를 버리고 새 파일을 연다(인덱스는 교체한 쪽이 저장해 둔 것을 읽음).
+     * @return 다시 열었으면 true
+     */
+    private boolean reopenIfReplaced() throws IOException {
+        if (ch == null || diskGeneration() == generation) return false;
+        System.out.println("[BinaryRankingRepository] log was replaced by another process → reopening " + path);
+        dropChannel();
+        board.clear();
+        stats.clear();
+        hist.clear();
+        openLocked();
+        return true;
+    }
+
+    /** 경로에 지금 있는 로그 파일의 세대(없거나 읽을 수 없으면 -1) */
+    private long diskGeneration() {
+        ByteBuffer g = ByteBuffer.allocate(Long.BYTES);
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (g.hasRemaining() && in.read(g, H_GENERATION + g.position()) > 0) { /* 8바이트 */ }
+        } catch (IOException ex) {
+            return -1L;
+        }
+        return g.hasRemaining() ? -1L : g.getLong(0);
+    }
+
+    /** 채널과 매핑을 놓음(fsync 없음). 매핑은 참조가 사라진 뒤 GC 때 풀린다 */
+    private void dropChannel() {
+        map = null;
+        mappedCount = -1;
+        if (ch != null) {
+            try { ch.close(); } catch (IOException ignore) {}
+            ch = null;
+        }
+    }
+
+    /** 새 세대 번호: 이전보다 크고, 새로 만든 파일끼리도 겹치지 않도록 현재 시각 이상 */
+    private static long nextGeneration(long prev) {
+        return Math.max(prev + 1, System.currentTimeMillis());
+    }
+
+    /**
+     * 체크포인트 이후 레코드의 길이/CRC를 검사해 처음 깨진 곳에서 파일을 자른다.
+     * (쓰다 꺼진 마지막 레코드, 0으로 채워진 꼬리 등)
+     */
+    private void recover() throws IOException {
+        long size = ch.size();
+        int onDisk = (int) Math.max(0, (size - HEADER_SIZE) / RECORD_SIZE);
+        int valid = scanValid(Math.max(0, Math.min(checkpoint, onDisk)), onDisk);
+
+        long end = HEADER_SIZE + (long) valid * RECORD_SIZE;
+        if (end < size) {
+            ch.truncate(end);
+            System.err.println("[BinaryRankingRepository] recovered: truncated " + (size - end)
+                    + " bytes after record #" + valid);
+        }
+        count = valid;
+        if (checkpoint != count) {
+            ch.force(false);
+            writeCheckpoint(count);
+        }
+    }
+
+    /** 레코드 [from, onDisk)를 앞에서부터 검사해 처음 깨진 곳 직전까지의 레코드 수 */
+    private int scanValid(int from, int onDisk) throws IOException {
+        int valid = from;
+        ByteBuffer chunk = ByteBuffer.allocate(RECORD_SIZE * 256);
+        long pos = HEADER_SIZE + (long) valid * RECORD_SIZE;
+        while (valid < onDisk) {
+            chunk.clear();
+            chunk.limit(Math.min(onDisk - valid, 256) * RECORD_SIZE);
+            while (chunk.hasRemaining()) {
+                if (ch.read(chunk, pos + chunk.position()) < 0) break;
+            }
+            int got = chunk.position() / RECORD_SIZE;
+            for (int k = 0; k < got; k++) {
+                if (!recordValid(chunk, k * RECORD_SIZE)) return valid;
+                valid++;
+            }
+            if (got == 0) break;
+            pos += (long) got * RECORD_SIZE;
+        }
+        return valid;
+    }
+
+    /** 레코드 [0, count) 중 CRC가 맞는 것만 디코딩(compact용 — 매핑 대신 채널로 읽음) */
+    private List<RankingEntry> readValid() throws IOException {
+        List<RankingEntry> keep = new ArrayList<>(count);
+        ByteBuffer chunk = ByteBuffer.allocate(RECORD_SIZE * 256);
+        long pos = HEADER_SIZE;
+        for (int i = 0; i < count; ) {
+            chunk.clear();
+            chunk.limit(Math.min(count - i, 256) * RECORD_SIZE);
+            while (chunk.hasRemaining()) {
+                if (ch.read(chunk, pos + chunk.position()) < 0) break;
+            }
+            int got = chunk.position() / RECORD_SIZE;
+            for (int k = 0; k < got; k++) {
+                if (recordValid(chunk, k * RECORD_SIZE)) keep.add(decode(chunk, k));
+            }
+            if (got == 0) break;
+            i += got;
+            pos += (long) got * RECORD_SIZE;
+        }
+        return keep;
+    }
+
+    /** 파일 끝에 남이 덧붙인 온전한 레코드를 반영(파일 잠금은 호출자가) */
+    private int catchUp() throws IOException {
+        int onDisk = (int) Math.max(0, (ch.size() - HEADER_SIZE) / RECORD_SIZE);
+        if (onDisk <= count) return 0;
+        int from = count;
+        count = scanValid(from, onDisk);
+        if (count == from) return 0;
+        ByteBuffer v = view();
+        for (int i = from; i < count; i++) {
+            offerAt(v, i);
+            stats.offer(i, decode(v, i));
+            hist.offer(i, v.getInt(i * RECORD_SIZE + R_SCORE));
+        }
+        return count - from;
+    }
+
+    /** 저장된 인덱스들을 읽고, 인덱스 저장 뒤에 덧붙은 레코드만 반영(없거나 깨졌으면 전체에서 다시 만듦) */
+    private void openIndex() throws IOException {
+        if (!board.load() || board.covered() > count) {
+            board.clear();
+            System.out.println("[BinaryRankingRepository] rebuilding leaderboard index from " + count + " records");
+        }
+        int from = board.covered();
+        if (from < count) {
+            ByteBuffer v = view();
+            for (int i = from; i < count; i++) offerAt(v, i);
+            board.save();
+        }
+
+        if (!stats.load() || stats.covered() > count) {
+            stats.clear();
+            System.out.println("[BinaryRankingRepository] rebuilding player stats from " + count + " records");
+        }
+        from = stats.covered();
+        if (from < count) {
+            ByteBuffer v = view();
+            for (int i = from; i < count; i++) stats.offer(i, decode(v, i));
+            stats.save();
+        }
+
+        if (!hist.load(histPath) || hist.covered() > count) {
+            hist.clear();
+            System.out.println("[BinaryRankingRepository] rebuilding score histogram from " + count + " records");
+        }
+        from = hist.covered();
+        if (from < count) {
+            ByteBuffer v = view();
+            for (int i = from; i < count; i++) hist.offer(i, v.getInt(i * RECORD_SIZE + R_SCORE));
+            hist.save(histPath);
+        }
+    }
+
+    /** 로그 끝에 레코드 쓰기 + 인덱스 갱신(인덱스 파일 저장은 호출자) */
+    private void appendRecord(RankingEntry e) throws IOException {
+        encode(e, rec);
+        long pos = HEADER_SIZE + (long) count * RECORD_SIZE;
+        while (rec.hasRemaining()) pos += ch.write(rec, pos);
+        board.offer(count, e.score, e.accuracy, e.timeLeft, e.epochMillis);
+        stats.offer(count, e);
+        hist.offer(count, e.score);
+        count++;
+    }
+
+    private void offerAt(ByteBuffer v, int i) {
+        int base = i * RECORD_SIZE;
+        board.offer(i, v.getInt(base + R_SCORE), v.getDouble(base + R_ACC),
+                v.getInt(base + R_TIME), v.getLong(base + R_EPOCH));
+    }
+
+    /**
+     * 헤더를 읽어 this.header/checkpoint에 보관.
+     * @return 형식 버전(1 또는 2), 매직/크기/CRC가 맞지 않으면 0
+     */
+    private int readHeader() throws IOException {
+        ByteBuffer h = header;
+        h.clear();
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (h.hasRemaining() && in.read(h) > 0) { /* 헤더 끝까지 */ }
+        }
+        if (h.hasRemaining()) return 0;
+        if (h.getInt(H_MAGIC) != MAGIC || h.getShort(H_HEADER_SIZE) != HEADER_SIZE
+                || h.getInt(H_CRC) != crc(h, 0, H_CRC)) return 0;
+        short v = h.getShort(H_VERSION);
+        if (v == VERSION && h.getInt(H_RECORD_SIZE) == RECORD_SIZE) {
+            checkpoint = h.getInt(H_CHECKPOINT);
+            generation = h.getLong(H_GENERATION);
+            return VERSION;
+        }
+        if (v == V1 && h.getInt(H_RECORD_SIZE) == V1_RECORD_SIZE) return V1;
+        return 0;
+    }
+
+    private static ByteBuffer newHeader(int checkpoint, long generation) {
+        ByteBuffer h = ByteBuffer.allocate(HEADER_SIZE);
+        h.putInt(H_MAGIC, MAGIC);
+        h.putShort(H_VERSION, VERSION);
+        h.putShort(H_HEADER_SIZE, (short) HEADER_SIZE);
+        h.putInt(H_RECORD_SIZE, RECORD_SIZE);
+        h.putLong(H_CREATED, System.currentTimeMillis());
+        h.putInt(H_CHECKPOINT, checkpoint);
+        h.putLong(H_GENERATION, generation);
+        h.putInt(H_CRC, crc(h, 0, H_CRC));
+        return h;
+    }
+
+    private void writeHeader(int checkpoint) throws IOException {
+        generation = nextGeneration(generation);
+        ByteBuffer h = newHeader(checkpoint, generation);
+        header.clear();
+        header.put(h.duplicate()).clear();
+        this.checkpoint = checkpoint;
+        writeFully(ch, h, 0);
+    }
+
+    /** 헤더의 체크포인트 칸만 바꿔 다시 씀(생성 시각 등은 유지) */
+    private void writeCheckpoint(int n) throws IOException {
+        header.putInt(H_CHECKPOINT, n);
+        header.putInt(H_CRC, crc(header, 0, H_CRC));
+        header.clear();
+        writeFully(ch, header.duplicate(), 0);
+        checkpoint = n;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer b, long pos) throws IOException {
+        while (b.hasRemaining()) pos += out.write(b, pos);
+    }
+
+    private static int crc(ByteBuffer b, int from, int len) {
+        CRC32 c = new CRC32();
+        ByteBuffer d = b.duplicate();
+        d.clear().position(from).limit(from + len);
+        c.update(d);
+        return (int) c.getValue();
+    }
+
+    /** base 위치의 레코드가 온전한지(길이 + 본문 CRC) */
+    private static boolean recordValid(ByteBuffer b, int base) {
+        return b.getInt(base + R_LEN) == PAYLOAD_SIZE
+                && b.getInt(base + R_CRC) == crc(b, base + R_SCORE, PAYLOAD_SIZE);
+    }
+
+    // ---------- 원자적 재작성(compact / v1 변환) ----------
+
+    private static final int REPLACE_ATTEMPTS = 3;
+
+    /** entries를 v2 로그(세대 generation)로 임시 파일에 쓰고 fsync → rename으로 교체(파일 잠금은 호출자가) */
+    private void rewriteAtomically(List<RankingEntry> entries, long generation) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer r = ByteBuffer.allocate(RECORD_SIZE);
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, newHeader(entries.size(), generation), 0);
+            long pos = HEADER_SIZE;
+            for (RankingEntry e : entries) {
+                encode(e, r);
+                writeFully(out, r, pos);
+                pos += RECORD_SIZE;
+            }
+            out.force(true);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                replace(tmp);
+                return;
+            } catch (FileSystemException ex) {
+                // Windows: 이 프로세스의 옛 매핑(정렬 스레드가 쥔 view 복사본 등)이 아직 GC되지 않았으면 거부됨
+                if (attempt >= REPLACE_ATTEMPTS) throw ex;
+                System.gc();
+                try {
+                    Thread.sleep(50L * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private void replace(Path tmp) throws IOException {
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** v1(길이/CRC 없음) 로그를 v2로 변환. 레코드 순서/번호는 그대로 */
+    private void migrateV1() throws IOException {
+        List<RankingEntry> entries = new ArrayList<>();
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            int n = (int) ((in.size() - HEADER_SIZE) / V1_RECORD_SIZE);
+            // 매핑하지 않고 읽음: 매핑은 GC 전까지 남아 있어 Windows에서 뒤의 rename을 막는다
+            ByteBuffer v = ByteBuffer.allocate(n * V1_RECORD_SIZE);
+            while (v.hasRemaining() && in.read(v, HEADER_SIZE + v.position()) > 0) { /* 끝까지 */ }
+            n = v.position() / V1_RECORD_SIZE;
+            for (int i = 0; i < n; i++) {
+                int base = i * V1_RECORD_SIZE;
+                int len = Math.min(NAME_BYTES, Math.max(0, v.getShort(base + V1_NAME_LEN)));
+                byte[] name = new byte[len];
+                v.get(base + V1_NAME, name);
+                entries.add(new RankingEntry(new String(name, StandardCharsets.UTF_8),
+                        v.getInt(base + V1_SCORE), v.getDouble(base + V1_ACC),
+                        v.getInt(base + V1_TIME), v.getLong(base + V1_EPOCH)));
+            }
+        }
+        rewriteAtomically(entries, nextGeneration(0));
+        System.out.println("[BinaryRankingRepository] migrated " + entries.size() + " records to v" + VERSION);
+    }
+
+    // ---------- 레코드 인코딩 ----------
+
+    /** 현재 레코드 수만큼의 읽기 전용 매핑(덧붙인 뒤 처음 읽을 때만 다시 매핑) */
+    private ByteBuffer view() throws IOException {
+        ensureOpen();
+        if (map == null || mappedCount != count) {
+            map = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) count * RECORD_SIZE);
+            mappedCount = count;
+        }
+        return map;
+    }
+
+    private static void encode(RankingEntry e, ByteBuffer b) {
+        b.clear();
+        byte[] name = truncateUtf8(e.name == null ? "" : e.name, NAME_BYTES);
+        b.putInt(R_SCORE, e.score);
+        b.putDouble(R_ACC, e.accuracy);
+        b.putInt(R_TIME, e.timeLeft);
+        b.putLong(R_EPOCH, e.epochMillis);
+        b.putShort(R_NAME_LEN, (short) name.length);
+        for (int i = 0; i < NAME_BYTES; i++) b.put(R_NAME + i, i < name.length ? name[i] : 0);
+        for (int i = R_NAME + NAME_BYTES; i < RECORD_SIZE; i++) b.put(i, (byte) 0);
+        b.putInt(R_LEN, PAYLOAD_SIZE);
+        b.putInt(R_CRC, crc(b, R_SCORE, PAYLOAD_SIZE));
+    }
+
+    private static void addTo(RankingColumns out, ByteBuffer v, int i) {
+        int base = i * RECORD_SIZE;
+        out.add(nameAt(v, base), v.getInt(base + R_SCORE), v.getDouble(base + R_ACC),
+                v.getInt(base + R_TIME), v.getLong(base + R_EPOCH));
+    }
+
+    private static String nameAt(ByteBuffer v, int base) {
+        int len = Math.min(NAME_BYTES, Math.max(0, v.getShort(base + R_NAME_LEN)));
+        byte[] name = new byte[len];
+        v.get(base + R_NAME, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static RankingEntry decode(ByteBuffer v, int i) {
+        int base = i * RECORD_SIZE;
+        return new RankingEntry(
+                nameAt(v, base),
+                v.getInt(base + R_SCORE),
+                v.getDouble(base + R_ACC),
+                v.getInt(base + R_TIME),
+                v.getLong(base + R_EPOCH));
+    }
+
+    /** RANK_ORDER와 같은 순서를 매핑에서 바로 비교(객체 생성 없음) */
+    private static int compareAt(ByteBuffer v, int i, int j) {
+        int a = i * RECORD_SIZE, b = j * RECORD_SIZE;
+        int c = Integer.compare(v.getInt(b + R_SCORE), v.getInt(a + R_SCORE));
+        if (c != 0) return c;
+        c = Double.compare(v.getDouble(b + R_ACC), v.getDouble(a + R_ACC));
+        if (c != 0) return c;
+        c = Integer.compare(v.getInt(b + R_TIME), v.getInt(a + R_TIME));
+        if (c != 0) return c;
+        return Long.compare(v.getLong(b + R_EPOCH), v.getLong(a + R_EPOCH));
+    }
+
+    /** RankingSort 기준 비교(오름차순). 같으면 레코드 번호 순 → 전순서 */
+    static int compareBy(RankingSort key, ByteBuffer v, int i, int j) {
+        int a = i * RECORD_SIZE, b = j * RECORD_SIZE;
+        int c;
+        switch (key) {
+            case RANK:      c = compareAt(v, i, j); break;
+            case NAME:      c = compareName(v, a, b); break;
+            case SCORE:     c = Integer.compare(v.getInt(a + R_SCORE), v.getInt(b + R_SCORE)); break;
+            case ACCURACY:  c = Double.compare(v.getDouble(a + R_ACC), v.getDouble(b + R_ACC)); break;
+            case TIME_LEFT: c = Integer.compare(v.getInt(a + R_TIME), v.getInt(b + R_TIME)); break;
+            case PLAYED_AT: c = Long.compare(v.getLong(a + R_EPOCH), v.getLong(b + R_EPOCH)); break;
+            default:        c = 0;
+        }
+        return (c != 0) ? c : Integer.compare(i, j);
+    }
+
+    /** 이름 UTF-8 바이트를 부호 없이 비교(= 유니코드 코드포인트 순, 디코딩 없음) */
+    private static int compareName(ByteBuffer v, int a, int b) {
+        int la = Math.min(NAME_BYTES, Math.max(0, v.getShort(a + R_NAME_LEN)));
+        int lb = Math.min(NAME_BYTES, Math.max(0, v.getShort(b + R_NAME_LEN)));
+        int n = Math.min(la, lb);
+        for (int k = 0; k < n; k++) {
+            int c = Integer.compare(v.get(a + R_NAME + k) & 0xFF, v.get(b + R_NAME + k) & 0xFF);
+            if (c != 0) return c;
+        }
+        return Integer.compare(la, lb);
+    }
+
+    /** UTF-8로 max 바이트 이내가 되도록 글자 단위로 자름 */
+    private static byte[] truncateUtf8(String s, int max) {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        if (b.length <= max) return b;
+        int end = s.length();
+        while (end > 0 && (b = s.substring(0, end).getBytes(StandardCharsets.UTF_8)).length > max) end--;
+        return b;
+    }
+
+    // ---------- 기존 CSV 가져오기(로그를 새로 만들 때 한 번) ----------
+
+    private static final DateTimeFormatter PLAYED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int MAX_REPORTED_ROWS = 20; // 깨진 줄 로그는 앞의 몇 개만
+    static final int MAX_IMPORT_SCORE = 1_000_000;   // 한 판 점수로 나올 수 없는 값(깨진 줄/조작)은 가져오지 않음
+
+    private void importLegacyCsv() {
+        importCsv(Paths.get(FilesConfig.RANKING_CSV));  // name,score,accuracy,timeLeft,(epochMillis|playedAt)
+        importCsv(Paths.get(FilesConfig.RANKING_FILE)); // name,score
+    }
+
+    private void importCsv(Path csv) {
+        if (Files.notExists(csv) || csv.toAbsolutePath().equals(path.toAbsolutePath())) return;
+        int n = 0, bad = 0;
+        try {
+            CsvReader r = CsvReader.open(csv);
+            while (r.next()) {
+                if (r.line() == 1 && r.getString(0).equals("name")) continue; // 헤더
+                String name = r.getString(0);
+                int score = r.getInt(1);
+                double acc = r.isEmpty(2) ? 0.0 : r.getDouble(2);
+                int tl = r.isEmpty(3) ? 0 : r.getInt(3);
+                long when = r.isEmpty(4) ? 0L
+                        : r.isDigits(4) ? r.getLong(4) : parsePlayedAt(r.getString(4));
+                if (r.error() == null && (score < 0 || score > MAX_IMPORT_SCORE)) r.reject("score out of range in field 1");
+                if (r.error() == null && when < 0) r.reject("bad playedAt in field 4");
+                if (r.error() != null) { // 깨진 줄은 0점 행으로 만들지 않고 알린 뒤 버림
+                    if (bad++ < MAX_REPORTED_ROWS) {
+                        System.err.println("[BinaryRankingRepository] " + csv + ":" + r.line() + " skipped: " + r.error());
+                    }
+                    continue;
+                }
+                appendRecord(new RankingEntry(name, score, acc, tl, when));
+                n++;
+            }
+            System.out.println("[BinaryRankingRepository] imported " + n + " rows from " + csv
+                    + (bad > 0 ? " (" + bad + " malformed rows skipped)" : ""));
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /** "yyyy-MM-dd HH:mm:ss" → epochMillis, 형식이 틀리면 -1 */
+    private static long parsePlayedAt(String s) {
+        try {
+            return LocalDateTime.parse(s, PLAYED_AT).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (Exception e) {
+            return -1L;
+        }
+    }
+}
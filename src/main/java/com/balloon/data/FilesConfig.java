@@ -1,5 +1,19 @@
 package com.balloon.data;
 
 public class FilesConfig {
-    public static final String RANKING_FILE = "ranking.csv";
+    // 랭킹 저장소: 고정 폭 바이너리 로그(BinaryRankingRepository)
+    public static final String RANKING_LOG = "data/ranking.bin";
+    // 상위 랭킹 인덱스(LeaderboardIndex) — 로그를 다시 훑지 않고 상위 N을 바로 읽기 위함
+    public static final String RANKING_INDEX = "data/ranking.idx";
+    // 플레이어별 누적 통계(PlayerStatsIndex) — 프로필 조회용
+    public static final String RANKING_PLAYERS = "data/ranking.players";
+    // 전체 점수 분포 요약(ScoreHistogram) — 결과 화면의 "상위 몇 %" 표시용
+    public static final String RANKING_HIST = "data/ranking.hist";
+
+    // 아이템 확률/지속시간 덮어쓰기(없으면 리소스 data/items.csv). 실행 중 고치면 다시 읽는다(ItemTables)
+    public static final String ITEMS_CSV = "data/items.csv";
+
+    // (구) CSV 파일들 — 로그를 처음 만들 때 한 번 가져오기만 한다
+    public static final String RANKING_CSV  = "data/ranking.csv"; // name,score,accuracy,timeLeft,epochMillis
+    public static final String RANKING_FILE = "ranking.csv";      // name,score
 }
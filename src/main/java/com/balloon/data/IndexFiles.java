@@ -0,0 +1,74 @@
+package com.balloon.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * IndexFiles
+ * - 로그 옆 인덱스 파일들(LeaderboardIndex의 ranking.idx, PlayerStatsIndex의 ranking.players,
+ *   ScoreHistogram의 ranking.hist)이 같이 쓰는 저장 형식/저장 방법.
+ * - 파일 = 헤더(headerSize, 마지막 4바이트가 CRC 칸) + 본문.
+ *   CRC는 CRC 칸을 뺀 헤더 + 본문 전체 → 잘리거나 덜 써진 파일은 read()가 거절하고, 호출자가 로그에서 다시 만든다.
+ * - 저장은 임시 파일(이름.tmp)에 쓰고 rename → 중간에 꺼져도 예전 파일 아니면 새 파일.
+ *   fsync는 하지 않는다(인덱스는 로그에서 언제든 다시 만들 수 있고, 덜 내려간 파일은 CRC로 걸러짐).
+ */
+final class IndexFiles {
+
+    private IndexFiles() {}
+
+    /** 헤더의 CRC 칸 [headerSize - 4, headerSize)를 뺀 버퍼 전체(용량 기준)의 CRC32 */
+    static int crc(ByteBuffer b, int headerSize) {
+        CRC32 c = new CRC32();
+        ByteBuffer d = b.duplicate();
+        d.clear().limit(headerSize - 4);
+        c.update(d);
+        d.clear().position(headerSize);
+        c.update(d);
+        return (int) c.getValue();
+    }
+
+    /**
+     * 파일 전체를 읽어 CRC까지 확인한 버퍼(position 0, 나머지 형식 검사는 호출자가).
+     * 없거나, 헤더보다 짧거나, CRC가 맞지 않으면 null.
+     */
+    static ByteBuffer read(Path path, int headerSize) throws IOException {
+        if (Files.notExists(path)) return null;
+        ByteBuffer b = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (b.capacity() < headerSize || b.getInt(headerSize - 4) != crc(b, headerSize)) return null;
+        return b;
+    }
+
+    /** CRC 칸을 채우고 버퍼 전체(용량 기준)를 임시 파일 + rename으로 원자적으로 저장 */
+    static void write(Path path, ByteBuffer b, int headerSize) throws IOException {
+        b.putInt(headerSize - 4, crc(b, headerSize));
+        ByteBuffer d = b.duplicate();
+        d.clear();
+        Path tmp = tmpOf(path);
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (d.hasRemaining()) out.write(d);
+        }
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** 파일(과 남아 있을지 모르는 임시 파일)을 지움 — 로그 레코드 번호가 바뀌어 인덱스를 버릴 때 */
+    static void delete(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(tmpOf(path));
+    }
+
+    private static Path tmpOf(Path path) {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+}
@@ -0,0 +1,153 @@
+package com.balloon.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+/**
+ * LeaderboardIndex
+ * - 랭킹 상위 capacity개를 (점수 ↓, 정확도 ↓, 남은시간 ↓, 최신 ↑) 순서로 들고 있는 인덱스.
+ * - 기록이 덧붙을 때마다 offer() 한 번: 정렬 트리 삽입 + 꼴찌 제거 O(log N).
+ * - 로그 옆 파일(ranking.idx)에 "로그의 몇 번째 레코드까지 반영했는지"와 함께 저장한다.
+ *   → 시작할 때 로그 전체를 다시 훑지 않고, 그 뒤에 덧붙은 레코드만 따라잡으면 된다.
+ * - 스레드 안전하지 않음: BinaryRankingRepository가 자기 락 안에서만 쓴다.
+ */
+final class LeaderboardIndex {
+
+    private static final int MAGIC = 0x42544958; // "BTIX"
+    private static final short VERSION = 1;
+    // 헤더: magic(4) version(2) 예약(2) capacity(4) covered(4) size(4) crc(4)
+    private static final int HEADER_SIZE = 24;
+    // 항목: record(4) score(4) accuracy(8) timeLeft(4) epochMillis(8)
+    private static final int ENTRY_SIZE = 28;
+
+    /** 인덱스 한 칸: 로그 레코드 번호 + 정렬 키 */
+    static final class Slot {
+        final int record;
+        final int score;
+        final double accuracy;
+        final int timeLeft;
+        final long epochMillis;
+
+        Slot(int record, int score, double accuracy, int timeLeft, long epochMillis) {
+            this.record = record;
+            this.score = score;
+            this.accuracy = accuracy;
+            this.timeLeft = timeLeft;
+            this.epochMillis = epochMillis;
+        }
+    }
+
+    /** BinaryRankingRepository.RANK_ORDER와 같은 순서(완전 동점이면 먼저 저장된 기록이 위) */
+    private static final Comparator<Slot> ORDER = (a, b) -> {
+        int c = Integer.compare(b.score, a.score);
+        if (c != 0) return c;
+        c = Double.compare(b.accuracy, a.accuracy);
+        if (c != 0) return c;
+        c = Integer.compare(b.timeLeft, a.timeLeft);
+        if (c != 0) return c;
+        c = Long.compare(b.epochMillis, a.epochMillis);
+        if (c != 0) return c;
+        return Integer.compare(a.record, b.record);
+    };
+
+    private final Path path;
+    private final int capacity;
+    private final TreeSet<Slot> top = new TreeSet<>(ORDER);
+    private int covered = 0; // 로그 레코드 [0, covered)가 반영됨
+
+    LeaderboardIndex(Path path, int capacity) {
+        this.path = path;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * 로그에 record번째 기록이 추가됨 → 상위권이면 넣고 꼴찌를 밀어냄.
+     * @return 상위 목록이 바뀌었으면 true
+     */
+    boolean offer(int record, int score, double accuracy, int timeLeft, long epochMillis) {
+        covered = Math.max(covered, record + 1);
+        Slot s = new Slot(record, score, accuracy, timeLeft, epochMillis);
+        if (top.size() < capacity) return top.add(s);
+        if (ORDER.compare(s, top.last()) >= 0) return false;
+        top.pollLast();
+        top.add(s);
+        return true;
+    }
+
+    /** 상위 n개(랭킹 순) 로그 레코드 번호 */
+    int[] records(int n) {
+        int k = Math.min(n, top.size());
+        int[] out = new int[k];
+        Iterator<Slot> it = top.iterator();
+        for (int i = 0; i < k; i++) out[i] = it.next().record;
+        return out;
+    }
+
+    int covered() { return covered; }
+
+    int size() { return top.size(); }
+
+    int capacity() { return capacity; }
+
+    void clear() {
+        top.clear();
+        covered = 0;
+    }
+
+    /** 로그 레코드 번호가 바뀌었을 때(compact 등): 메모리와 파일 모두 버림 → 다음 열기 때 다시 만듦 */
+    void discard() throws IOException {
+        clear();
+        IndexFiles.delete(path);
+    }
+
+    // ---------- 저장 / 읽기 ----------
+
+    /**
+     * 파일에서 읽기. 없거나 형식/CRC가 맞지 않으면 false(호출자가 로그에서 다시 만든다).
+     */
+    boolean load() {
+        clear();
+        try {
+            ByteBuffer b = IndexFiles.read(path, HEADER_SIZE);
+            if (b == null) return false;
+            int size = b.getInt(16);
+            if (b.getInt(0) != MAGIC || b.getShort(4) != VERSION || b.getInt(8) != capacity
+                    || size < 0 || size > capacity || b.capacity() != HEADER_SIZE + size * ENTRY_SIZE) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                int p = HEADER_SIZE + i * ENTRY_SIZE;
+                top.add(new Slot(b.getInt(p), b.getInt(p + 4), b.getDouble(p + 8), b.getInt(p + 16), b.getLong(p + 20)));
+            }
+            covered = b.getInt(12);
+            return true;
+        } catch (IOException ex) {
+            clear();
+            return false;
+        }
+    }
+
+    /** 인덱스 저장(형식/원자적 교체는 IndexFiles) */
+    void save() throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(HEADER_SIZE + top.size() * ENTRY_SIZE);
+        b.putInt(0, MAGIC);
+        b.putShort(4, VERSION);
+        b.putInt(8, capacity);
+        b.putInt(12, covered);
+        b.putInt(16, top.size());
+        int p = HEADER_SIZE;
+        for (Slot s : top) {
+            b.putInt(p, s.record);
+            b.putInt(p + 4, s.score);
+            b.putDouble(p + 8, s.accuracy);
+            b.putInt(p + 16, s.timeLeft);
+            b.putLong(p + 20, s.epochMillis);
+            p += ENTRY_SIZE;
+        }
+        IndexFiles.write(path, b, HEADER_SIZE);
+    }
+}
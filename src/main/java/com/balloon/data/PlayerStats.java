@@ -0,0 +1,38 @@
+package com.balloon.data;
+
+/**
+ * PlayerStats
+ * - 한 플레이어의 누적 통계 스냅샷(불변). BinaryRankingRepository.playerStats()가 돌려준다.
+ * - 값은 기록이 저장될 때마다 PlayerStatsIndex가 증분으로 갱신한 것(조회 시 로그를 훑지 않음).
+ */
+public final class PlayerStats {
+    public final String name;             // 플레이어 이름(앞뒤 공백 제거)
+    public final int games;               // 저장된 판 수
+    public final int bestScore;           // 최고 점수
+    public final double averageScore;     // 평균 점수
+    public final double averageAccuracy;  // 평균 정확도(0~100)
+    public final int recentGames;         // 최근 판 수(최대 PlayerStatsIndex.RECENT)
+    public final double recentAccuracy;   // 최근 판들의 평균 정확도
+    public final double accuracyTrend;    // 최근 판들의 정확도 기울기(판당 %p, +면 오르는 중)
+    public final long lastPlayedMillis;   // 마지막 기록 시각
+    public final int rank;                // 최고 점수 기준 플레이어 순위(1부터, 동점은 같은 순위)
+    public final double percentile;       // 최고 점수 백분위(0~100, 높을수록 상위)
+    public final int players;             // 전체 플레이어 수(백분위 기준)
+
+    public PlayerStats(String name, int games, int bestScore, double averageScore,
+                       double averageAccuracy, int recentGames, double recentAccuracy, double accuracyTrend,
+                       long lastPlayedMillis, int rank, double percentile, int players) {
+        this.name = name;
+        this.games = games;
+        this.bestScore = bestScore;
+        this.averageScore = averageScore;
+        this.averageAccuracy = averageAccuracy;
+        this.recentGames = recentGames;
+        this.recentAccuracy = recentAccuracy;
+        this.accuracyTrend = accuracyTrend;
+        this.lastPlayedMillis = lastPlayedMillis;
+        this.rank = rank;
+        this.percentile = percentile;
+        this.players = players;
+    }
+}
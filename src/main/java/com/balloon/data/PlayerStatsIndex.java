@@ -0,0 +1,245 @@
+package com.balloon.data;
+
+import com.balloon.ranking.RankingEntry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PlayerStatsIndex
+ * - 플레이어별 누적값(판 수, 최고/합계 점수, 정확도 합, 최근 정확도 링)을 기록이 붙을 때마다 갱신하는 집계 인덱스.
+ * - 백분위/순위는 "플레이어별 최고 점수"를 점수 버킷(ScoreHistogram과 같은 구간)별로 센 펜윅 트리로 O(log B) 조회(B ≈ 2만 3천, 고정).
+ *   → 기록이 수백만 판이어도 조회 한 번은 해시 조회 + 트리 몇 칸.
+ * - LeaderboardIndex처럼 "로그의 몇 번째 레코드까지 반영했는지"와 함께 파일(ranking.players, 형식은 IndexFiles)에 저장하고,
+ *   다음 실행에서는 그 뒤에 덧붙은 레코드만 따라잡는다.
+ *   플레이어 수에 비례하는 파일이라 매 저장마다가 아니라 fsync 주기에 맞춰 가끔 저장한다(maybeSave).
+ * - 스레드 안전하지 않음: BinaryRankingRepository가 자기 락 안에서만 쓴다.
+ */
+final class PlayerStatsIndex {
+
+    /** 추세 계산에 쓰는 최근 판 수 */
+    static final int RECENT = 10;
+
+    private static final int MAGIC = 0x42545053; // "BTPS"
+    private static final short VERSION = 1;
+    // 헤더: magic(4) version(2) recent(2) covered(4) players(4) crc(4)
+    private static final int HEADER_SIZE = 20;
+    private static final int SAVE_EVERY_RECORDS = 1000;
+    private static final long SAVE_EVERY_NANOS = 10_000_000_000L;
+
+    /** 플레이어 한 명의 누적값 */
+    private static final class Agg {
+        final String name;
+        int games;
+        int best;
+        long sumScore;
+        double sumAccuracy;
+        long lastPlayed;
+        final double[] recent = new double[RECENT]; // 정확도 링(오래된 것부터 덮어씀)
+        int recentCount;                            // 지금까지 넣은 수(RECENT 넘으면 링이 꽉 참)
+
+        Agg(String name) { this.name = name; }
+    }
+
+    private final Path path;
+    private final Map<String, Agg> players = new HashMap<>();
+    private final ScoreCounts bests = new ScoreCounts(); // 플레이어별 최고 점수 분포
+    private int covered = 0;     // 로그 레코드 [0, covered)가 반영됨
+    private int unsaved = 0;     // 마지막 저장 뒤 반영한 레코드 수
+    private long savedAt = System.nanoTime();
+
+    PlayerStatsIndex(Path path) {
+        this.path = path;
+    }
+
+    /** 로그에 record번째 기록이 추가됨 */
+    void offer(int record, RankingEntry e) {
+        if (record < covered) return;
+        covered = record + 1;
+        unsaved++;
+        String key = key(e.name);
+        Agg a = players.get(key);
+        if (a == null) {
+            a = new Agg(key);
+            players.put(key, a);
+            a.best = e.score;
+            bests.add(e.score, 1);
+        } else if (e.score > a.best) {
+            bests.add(a.best, -1);
+            bests.add(e.score, 1);
+            a.best = e.score;
+        }
+        a.games++;
+        a.sumScore += e.score;
+        a.sumAccuracy += e.accuracy;
+        a.lastPlayed = Math.max(a.lastPlayed, e.epochMillis);
+        a.recent[a.recentCount % RECENT] = e.accuracy;
+        a.recentCount++;
+    }
+
+    /** 이름으로 통계 스냅샷(없으면 null) */
+    PlayerStats get(String name) {
+        Agg a = players.get(key(name));
+        if (a == null) return null;
+        int n = players.size();
+        int above = n - bests.countAtMost(a.best);          // 나보다 최고 점수가 높은 플레이어
+        int below = bests.countBelow(a.best);               // 나보다 낮은 플레이어
+        int tied = n - above - below;                        // 나 포함 동점(2048점 이상은 같은 버킷까지)
+        double percentile = 100.0 * (below + 0.5 * tied) / n;
+
+        int k = Math.min(a.recentCount, RECENT);
+        double recentSum = 0;
+        for (int i = 0; i < k; i++) recentSum += a.recent[i];
+        return new PlayerStats(a.name, a.games, a.best,
+                (double) a.sumScore / a.games,
+                a.sumAccuracy / a.games,
+                k, recentSum / k,
+                trend(a, k),
+                a.lastPlayed, above + 1, percentile, n);
+    }
+
+    int playerCount() { return players.size(); }
+
+    int covered() { return covered; }
+
+    void clear() {
+        players.clear();
+        bests.clear();
+        covered = 0;
+        unsaved = 0;
+    }
+
+    /** 로그 레코드 번호가 바뀌었을 때(compact 등): 메모리와 파일 모두 버림 → 다음 열기 때 다시 만듦 */
+    void discard() throws IOException {
+        clear();
+        IndexFiles.delete(path);
+    }
+
+    /** 최근 판들의 정확도 최소제곱 기울기(판당 변화량). 2판 미만이면 0 */
+    private static double trend(Agg a, int k) {
+        if (k < 2) return 0.0;
+        int oldest = (a.recentCount > RECENT) ? a.recentCount % RECENT : 0;
+        double mx = (k - 1) / 2.0, my = 0, sxy = 0, sxx = 0;
+        for (int i = 0; i < k; i++) my += a.recent[(oldest + i) % RECENT];
+        my /= k;
+        for (int i = 0; i < k; i++) {
+            double dx = i - mx;
+            sxy += dx * (a.recent[(oldest + i) % RECENT] - my);
+            sxx += dx * dx;
+        }
+        return sxy / sxx;
+    }
+
+    private static String key(String name) {
+        return (name == null) ? "" : name.trim();
+    }
+
+    // ---------- 저장 / 읽기 ----------
+
+    /** 쌓인 변경이 충분하거나 오래됐으면 저장(fsync 때 호출) */
+    void maybeSave() throws IOException {
+        if (unsaved == 0) return;
+        if (unsaved >= SAVE_EVERY_RECORDS || System.nanoTime() - savedAt >= SAVE_EVERY_NANOS) save();
+    }
+
+    /** 저장 안 된 변경이 있으면 저장(닫을 때) */
+    void flush() throws IOException {
+        if (unsaved > 0) save();
+    }
+
+    /**
+     * 파일에서 읽기. 없거나 형식/CRC가 맞지 않으면 false(호출자가 로그에서 다시 만든다).
+     */
+    boolean load() {
+        clear();
+        try {
+            ByteBuffer b = IndexFiles.read(path, HEADER_SIZE);
+            if (b == null || b.getInt(0) != MAGIC || b.getShort(4) != VERSION || b.getShort(6) != RECENT) {
+                return false;
+            }
+            int n = b.getInt(12);
+            b.position(HEADER_SIZE);
+            for (int i = 0; i < n; i++) {
+                byte[] nb = new byte[b.getShort() & 0xFFFF];
+                b.get(nb);
+                Agg a = new Agg(new String(nb, StandardCharsets.UTF_8));
+                a.games = b.getInt();
+                a.best = b.getInt();
+                a.sumScore = b.getLong();
+                a.sumAccuracy = b.getDouble();
+                a.lastPlayed = b.getLong();
+                a.recentCount = b.getInt();
+                for (int r = 0; r < RECENT; r++) a.recent[r] = b.getDouble();
+                players.put(a.name, a);
+                bests.add(a.best, 1);
+            }
+            covered = b.getInt(8);
+            unsaved = 0;
+            return true;
+        } catch (Exception ex) { // 잘린 파일(BufferUnderflow) 포함
+            clear();
+            return false;
+        }
+    }
+
+    /** 플레이어 전체를 저장하고 쌓인 변경 수를 0으로 */
+    void save() throws IOException {
+        int size = HEADER_SIZE;
+        byte[][] names = new byte[players.size()][];
+        int i = 0;
+        for (Agg a : players.values()) {
+            names[i] = a.name.getBytes(StandardCharsets.UTF_8);
+            size += 2 + names[i].length + 4 + 4 + 8 + 8 + 8 + 4 + RECENT * 8;
+            i++;
+        }
+        ByteBuffer b = ByteBuffer.allocate(size);
+        b.putInt(MAGIC).putShort(VERSION).putShort((short) RECENT).putInt(covered).putInt(players.size()).putInt(0);
+        i = 0;
+        for (Agg a : players.values()) {
+            b.putShort((short) names[i].length).put(names[i++]);
+            b.putInt(a.games).putInt(a.best).putLong(a.sumScore).putDouble(a.sumAccuracy)
+                    .putLong(a.lastPlayed).putInt(a.recentCount);
+            for (double r : a.recent) b.putDouble(r);
+        }
+        IndexFiles.write(path, b, HEADER_SIZE);
+        unsaved = 0;
+        savedAt = System.nanoTime();
+    }
+
+    /**
+     * 점수 버킷별 인원 수를 세는 펜윅 트리.
+     * 버킷은 ScoreHistogram과 같은 로그-선형 구간(2048점 미만은 점수 하나당 한 칸, 그 위는 상대 오차 1/1024)
+     * → int 전체 범위를 고정 크기(약 2만 3천 칸)로 덮는다. 음수 점수는 0으로 센다.
+     */
+    private static final class ScoreCounts {
+        private final int[] tree = new int[ScoreHistogram.BUCKETS + 1]; // 1-based, 버킷 b는 b+1 칸
+
+        void add(int score, int delta) {
+            for (int i = ScoreHistogram.bucketOf(score) + 1; i < tree.length; i += i & -i) tree[i] += delta;
+        }
+
+        /** score가 든 버킷까지의 인원 수(= score 이하, 2048점 이상은 같은 버킷 포함) */
+        int countAtMost(int score) {
+            return prefix(ScoreHistogram.bucketOf(score) + 1);
+        }
+
+        /** score가 든 버킷보다 낮은 버킷의 인원 수(= score 미만, 2048점 이상은 같은 버킷 제외) */
+        int countBelow(int score) {
+            return prefix(ScoreHistogram.bucketOf(score));
+        }
+
+        private int prefix(int i) {
+            int sum = 0;
+            for (; i > 0; i -= i & -i) sum += tree[i];
+            return sum;
+        }
+
+        void clear() {
+            java.util.Arrays.fill(tree, 0);
+        }
+    }
+}
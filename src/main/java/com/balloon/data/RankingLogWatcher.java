@@ -0,0 +1,116 @@
+package com.balloon.data;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RankingLogWatcher
+ * - 랭킹 로그 파일(ranking.bin)이 커지면 새로 붙은 레코드만 저장소에 반영하고 알려 주는 감시자.
+ * - 폴더를 WatchService로 감시하고, 알림이 없어도 POLL_MS마다 한 번 파일 크기를 확인한다
+ *   (네트워크 공유 폴더 등 변경 알림이 오지 않는 파일 시스템 대비).
+ * - 반영은 BinaryRankingRepository.refresh()가 마지막으로 알던 레코드 수 이후만 읽는다 → 전체 재읽기 없음.
+ * - 리스너는 감시 스레드에서 불린다(UI 갱신은 호출자가 invokeLater로).
+ */
+public final class RankingLogWatcher {
+
+    /** 새 레코드 [from, to)가 저장소에 반영됨 */
+    public interface Listener {
+        void recordsAppended(int from, int to);
+    }
+
+    private static final long POLL_MS = 1000;
+
+    private final BinaryRankingRepository store;
+    private final Listener listener;
+    private volatile boolean running = false;
+    private WatchService watcher;
+    private Thread thread;
+    private int seen; // 리스너에게 알린 레코드 수
+
+    public RankingLogWatcher(BinaryRankingRepository store, Listener listener) {
+        this.store = store;
+        this.listener = listener;
+    }
+
+    /** 감시 시작(이미 돌고 있으면 무시). 지금까지의 레코드는 알리지 않는다 */
+    public synchronized void start() {
+        if (running) return;
+        seen = store.size();
+        Path dir = store.getPath().toAbsolutePath().getParent();
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+            dir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException | RuntimeException ex) {
+            // 감시를 못 하면 주기 확인만으로 동작
+            System.err.println("[RankingLogWatcher] watch unavailable, polling only: " + ex);
+            closeWatcher();
+        }
+        running = true;
+        thread = new Thread(this::run, "ranking-watch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 감시 중지(화면을 떠날 때) */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        closeWatcher(); // take/poll 중인 스레드를 깨움
+        if (thread != null) thread.interrupt();
+        thread = null;
+    }
+
+    public boolean isRunning() { return running; }
+
+    // ---------- 감시 스레드 ----------
+
+    private void run() {
+        while (running) {
+            try {
+                WatchService w = watcher;
+                if (w != null) {
+                    WatchKey key = w.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                    if (key != null) { // 어떤 파일이 바뀌었든 확인은 파일 크기 비교 한 번이라 이벤트 내용은 버림
+                        key.pollEvents();
+                        key.reset();
+                    }
+                } else {
+                    Thread.sleep(POLL_MS);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                if (!running) return;
+            }
+            if (running) check();
+        }
+    }
+
+    /** 다른 프로세스가 붙인 레코드를 반영하고, 이 프로세스가 쓴 것까지 포함해 새로 늘어난 구간을 알림 */
+    private void check() {
+        store.refresh();
+        int now = store.size();
+        int from = seen;
+        if (now > from) {
+            seen = now;
+            try {
+                listener.recordsAppended(from, now);
+            } catch (RuntimeException ex) {
+                ex.printStackTrace();
+            }
+        } else if (now < from) {
+            seen = now; // compact 등으로 줄어듦
+        }
+    }
+
+    private void closeWatcher() {
+        if (watcher != null) {
+            try { watcher.close(); } catch (IOException ignore) {}
+            watcher = null;
+        }
+    }
+}
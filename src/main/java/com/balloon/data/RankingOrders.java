@@ -0,0 +1,121 @@
+package com.balloon.data;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+
+/**
+ * RankingOrders
+ * - 정렬 기준별 "레코드 번호 순열"(int[]) 캐시. 화면은 이 순열의 한 구간만 디코딩해 보여준다.
+ * - 로그는 덧붙기만 하므로, 기록이 늘면 새 레코드만 정렬해 기존 순열과 병합한다(O(N + k log k)).
+ * - 발행한 배열은 다시 고치지 않는다(병합 결과는 새 배열) → 받은 쪽은 잠금 없이 계속 읽어도 된다.
+ * - 캐시 자체는 이 객체의 잠금으로 보호한다. 정렬은 저장소 잠금 밖에서 하므로
+ *   그동안에도 랭킹 화면의 페이지 읽기/기록 저장이 막히지 않는다.
+ */
+final class RankingOrders {
+
+    /** 순열 + 꺼낸 시점의 세대(그 사이 레코드 번호가 바뀌었는지 확인용) */
+    static final class Snapshot {
+        final int[] order;
+        final int generation;
+
+        Snapshot(int[] order, int generation) {
+            this.order = order;
+            this.generation = generation;
+        }
+    }
+
+    private final EnumMap<RankingSort, int[]> orders = new EnumMap<>(RankingSort.class);
+    private int[] ranks = new int[0]; // ranks[record] = RANK 순열에서의 위치(0부터)
+    private int generation = 0;       // compact/복구로 레코드 번호가 바뀌면 증가
+
+    /** 캐시된 순열(없으면 빈 배열) */
+    synchronized Snapshot cached(RankingSort key) {
+        int[] o = orders.get(key);
+        return new Snapshot(o == null ? new int[0] : o, generation);
+    }
+
+    /** 다른 스레드가 잠금 밖에서 만든 순열을 반영(그 사이 번호가 바뀌었거나 더 짧으면 버림) */
+    synchronized void publish(RankingSort key, Snapshot base, int[] order) {
+        if (base.generation != generation) return;
+        int[] cur = orders.get(key);
+        if (cur != null && cur.length >= order.length) return;
+        orders.put(key, order);
+        if (key == RankingSort.RANK) ranks = invert(order);
+    }
+
+    synchronized int[] ranks() { return ranks; }
+
+    /** 레코드 번호가 바뀜: 전부 버림 */
+    synchronized void clear() {
+        orders.clear();
+        ranks = new int[0];
+        generation++;
+    }
+
+    /**
+     * base 순열을 레코드 [base.length, count)까지 늘린 새 순열.
+     * v는 적어도 count개 레코드를 덮는 매핑(잠금 밖에서 읽어도 되는 읽기 전용 뷰).
+     */
+    static int[] extend(RankingSort key, ByteBuffer v, int[] base, int count) {
+        int old = base.length;
+        if (count <= old) return base;
+        int k = count - old;
+        int[] add = new int[k];
+        for (int i = 0; i < k; i++) add[i] = old + i;
+        sort(key, v, add);
+        if (old == 0) return add;
+
+        // 병합: 동점이면 레코드 번호가 작은 쪽(=기존) 먼저 → 새 것은 모두 번호가 크므로 base 우선
+        int[] out = new int[count];
+        int i = 0, j = 0, o = 0;
+        while (i < old && j < k) {
+            out[o++] = (BinaryRankingRepository.compareBy(key, v, add[j], base[i]) < 0) ? add[j++] : base[i++];
+        }
+        while (i < old) out[o++] = base[i++];
+        while (j < k) out[o++] = add[j++];
+        return out;
+    }
+
+    /** 상향식 병합 정렬(int[]를 박싱하지 않음, 안정) */
+    private static void sort(RankingSort key, ByteBuffer v, int[] a) {
+        int n = a.length;
+        // 작은 구간은 삽입 정렬
+        final int RUN = 32;
+        for (int lo = 0; lo < n; lo += RUN) {
+            int hi = Math.min(lo + RUN, n);
+            for (int i = lo + 1; i < hi; i++) {
+                int x = a[i], j = i - 1;
+                while (j >= lo && BinaryRankingRepository.compareBy(key, v, a[j], x) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = x;
+            }
+        }
+        if (n <= RUN) return;
+        int[] src = a, dst = new int[n];
+        for (int w = RUN; w < n; w *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * w) {
+                int mid = Math.min(lo + w, n), hi = Math.min(lo + 2 * w, n);
+                int i = lo, j = mid, o = lo;
+                if (mid < hi && BinaryRankingRepository.compareBy(key, v, src[mid - 1], src[mid]) <= 0) {
+                    System.arraycopy(src, lo, dst, lo, hi - lo); // 이미 정렬된 두 구간
+                    continue;
+                }
+                while (i < mid && j < hi) {
+                    dst[o++] = (BinaryRankingRepository.compareBy(key, v, src[j], src[i]) < 0) ? src[j++] : src[i++];
+                }
+                while (i < mid) dst[o++] = src[i++];
+                while (j < hi) dst[o++] = src[j++];
+            }
+            int[] t = src; src = dst; dst = t;
+        }
+        if (src != a) System.arraycopy(src, 0, a, 0, n);
+    }
+
+    private static int[] invert(int[] order) {
+        int[] r = new int[order.length];
+        for (int i = 0; i < order.length; i++) r[order[i]] = i;
+        return r;
+    }
+}
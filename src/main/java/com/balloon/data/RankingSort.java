@@ -0,0 +1,17 @@
+package com.balloon.data;
+
+/**
+ * RankingSort
+ * - 저장소가 미리 계산해 두는 정렬 기준(BinaryRankingRepository.order()).
+ * - 각 순서는 "오름차순"으로 만들어지고, 내림차순은 같은 배열을 뒤에서부터 읽는다.
+ *   RANK의 오름차순 = 1등부터(점수 ↓, 정확도 ↓, 남은시간 ↓, 최신 ↑).
+ * - 값이 같으면 먼저 저장된 기록이 앞 → 모든 순서가 전순서라 새 기록을 병합만 하면 된다.
+ */
+public enum RankingSort {
+    RANK,
+    NAME,
+    SCORE,
+    ACCURACY,
+    TIME_LEFT,
+    PLAYED_AT
+}
@@ -0,0 +1,198 @@
+package com.balloon.data;
+
+import com.balloon.ranking.RankingEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RankingWriter
+ * - 랭킹 기록을 EDT 밖에서 저장하는 write-behind 작성기(백그라운드 스레드 1개 + 큐).
+ * - submit()은 큐에 넣고 바로 돌아온다. 완료/실패는 반환된 CompletableFuture로 알린다
+ *   (작성 스레드에서 완료되므로 UI 갱신은 호출자가 invokeLater로).
+ * - 쌓인 요청은 한 번에 꺼내 묶음으로 기록한다 → 파일 채널 1개 재사용, 인덱스 저장도 묶음당 한 번.
+ * - fsync 정책(-Dballoon.ranking.fsync):
+ *     every        : 묶음마다 디스크까지 강제 기록
+ *     interval:ms  : 마지막 fsync 후 ms가 지나면(기본 interval:200)
+ *     shutdown     : 종료 훅에서만
+ * - 종료 훅이 남은 요청을 모두 쓰고 fsync한 뒤 끝난다.
+ */
+public final class RankingWriter {
+
+    /** fsync 시점 */
+    public enum FsyncPolicy { EVERY_BATCH, INTERVAL, ON_SHUTDOWN }
+
+    public static final String FSYNC_PROPERTY = "balloon.ranking.fsync";
+    private static final int MAX_BATCH = 64;
+    private static final long DEFAULT_INTERVAL_MS = 200;
+
+    private static volatile RankingWriter INSTANCE;
+
+    public static RankingWriter getInstance() {
+        if (INSTANCE == null) {
+            synchronized (RankingWriter.class) {
+                if (INSTANCE == null) {
+                    RankingWriter w = new RankingWriter(BinaryRankingRepository.getInstance(),
+                            System.getProperty(FSYNC_PROPERTY, "interval:" + DEFAULT_INTERVAL_MS));
+                    w.start();
+                    INSTANCE = w;
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /** 큐 한 칸: 저장할 기록 + 완료 알림 */
+    private static final class Pending {
+        final RankingEntry entry;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Pending(RankingEntry entry) { this.entry = entry; }
+    }
+
+    private static final Pending STOP = new Pending(null); // 종료 신호
+
+    private final BinaryRankingRepository store;
+    private final FsyncPolicy policy;
+    private final long intervalNanos;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile boolean closed = false;
+
+    private boolean unsynced = false;
+    private long lastSyncNanos = System.nanoTime();
+
+    RankingWriter(BinaryRankingRepository store, String fsync) {
+        this.store = store;
+        long ms = DEFAULT_INTERVAL_MS;
+        FsyncPolicy p = FsyncPolicy.INTERVAL;
+        String f = (fsync == null) ? "" : fsync.trim().toLowerCase();
+        if (f.equals("every")) {
+            p = FsyncPolicy.EVERY_BATCH;
+        } else if (f.equals("shutdown")) {
+            p = FsyncPolicy.ON_SHUTDOWN;
+        } else if (f.startsWith("interval:")) {
+            try { ms = Math.max(1, Long.parseLong(f.substring("interval:".length()))); } catch (NumberFormatException ignore) {}
+        }
+        this.policy = p;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(ms);
+        this.thread = new Thread(this::run, "ranking-writer");
+        this.thread.setDaemon(true); // 종료는 훅이 책임짐
+    }
+
+    private void start() {
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "ranking-writer-shutdown"));
+    }
+
+    /** 기록 저장 요청(즉시 반환). 종료 중이면 실패한 Future */
+    public CompletableFuture<Void> submit(RankingEntry e) {
+        Pending p = new Pending(e);
+        if (closed) {
+            p.done.completeExceptionally(new IllegalStateException("ranking writer is shut down"));
+            return p.done;
+        }
+        queue.add(p);
+        return p.done;
+    }
+
+    public FsyncPolicy getPolicy() { return policy; }
+
+    /** 남은 요청을 모두 쓰고 fsync(종료 훅). 최대 2초 기다림 */
+    public void shutdown() {
+        if (closed) return;
+        closed = true;
+        queue.add(STOP);
+        try {
+            thread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---------- 작성 스레드 ----------
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(MAX_BATCH);
+        List<RankingEntry> entries = new ArrayList<>(MAX_BATCH);
+        boolean stop = false;
+        while (!stop) {
+            Pending first;
+            try {
+                first = (policy == FsyncPolicy.INTERVAL && unsynced)
+                        ? queue.poll(remainingIntervalNanos(), TimeUnit.NANOSECONDS)
+                        : queue.take();
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null) { // interval 만료: 쓸 것은 없고 fsync만
+                sync();
+                continue;
+            }
+
+            batch.clear();
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+            entries.clear();
+            for (Pending p : batch) {
+                if (p == STOP) stop = true;
+                else entries.add(p.entry);
+            }
+
+            Throwable error = null;
+            if (!entries.isEmpty()) {
+                try {
+                    store.appendAll(entries);
+                    unsynced = true;
+                    if (policy == FsyncPolicy.EVERY_BATCH
+                            || (policy == FsyncPolicy.INTERVAL && remainingIntervalNanos() <= 0)) {
+                        sync();
+                    }
+                } catch (Exception ex) {
+                    error = ex;
+                    ex.printStackTrace();
+                }
+            }
+            for (Pending p : batch) {
+                if (p == STOP) continue;
+                if (error == null) p.done.complete(null);
+                else p.done.completeExceptionally(error);
+            }
+        }
+        // 종료: 남은 것까지 쓰고 디스크에 강제 기록
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.remove(STOP);
+        if (!rest.isEmpty()) {
+            List<RankingEntry> tail = new ArrayList<>(rest.size());
+            for (Pending p : rest) tail.add(p.entry);
+            try {
+                store.appendAll(tail);
+                for (Pending p : rest) p.done.complete(null);
+            } catch (Exception ex) {
+                for (Pending p : rest) p.done.completeExceptionally(ex);
+            }
+            unsynced = true;
+        }
+        sync();
+    }
+
+    private long remainingIntervalNanos() {
+        return intervalNanos - (System.nanoTime() - lastSyncNanos);
+    }
+
+    private void sync() {
+        if (!unsynced) return;
+        try {
+            store.force();
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        unsynced = false;
+        lastSyncNanos = System.nanoTime();
+    }
+}
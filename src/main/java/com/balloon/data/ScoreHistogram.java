@@ -0,0 +1,177 @@
+package com.balloon.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * ScoreHistogram
+ * - 전체 점수 분포를 고정 크기로 요약한 HDR 방식(로그-선형 버킷) 히스토그램.
+ *     0 ~ 2047        : 점수 하나당 버킷 하나(정확)
+ *     2048 이상       : 2의 거듭제곱 구간마다 1024칸 → 상대 오차 1/1024 이하
+ *   → int 전체 범위를 약 2만 3천 칸(long)으로 덮고, 기록 수와 무관하게 크기가 고정.
+ * - record()는 O(1), 백분위/순위 조회는 버킷을 한 번 훑는 O(버킷 수)(수 μs, 전체 기록을 읽지 않음).
+ * - merge()로 다른 히스토그램을 더할 수 있다(기기별/기간별 분포 합치기).
+ * - 저장소용 파일(ranking.hist)에는 0이 아닌 버킷만 (번호, 개수)로 쓰고,
+ *   "로그의 몇 번째 레코드까지 반영했는지"를 함께 둔다(형식/저장 방법은 IndexFiles).
+ * - 스레드 안전하지 않음: BinaryRankingRepository가 자기 락 안에서만 쓴다.
+ */
+public final class ScoreHistogram {
+
+    /** 점수 하나에 대한 위치(결과 화면 표시용) */
+    public static final class Standing {
+        public final int score;
+        public final long rank;          // 이 점수보다 높은 기록 수 + 1
+        public final long total;         // 지금까지 기록 수(이 점수 제외)
+        public final double beatPercent; // 이 점수보다 낮은 기록의 비율(0~100)
+
+        Standing(int score, long rank, long total, double beatPercent) {
+            this.score = score;
+            this.rank = rank;
+            this.total = total;
+            this.beatPercent = beatPercent;
+        }
+    }
+
+    private static final int SUB_BITS = 10;
+    private static final int SUB = 1 << SUB_BITS;            // 구간당 칸 수(1024)
+    private static final int LINEAR = SUB * 2;               // 정확히 세는 구간 [0, 2048)
+    static final int BUCKETS = LINEAR + (31 - (SUB_BITS + 1)) * SUB;
+
+    private static final int MAGIC = 0x42544853; // "BTHS"
+    private static final short VERSION = 1;
+    // 헤더: magic(4) version(2) subBits(2) covered(4) nonZero(4) crc(4), 항목: bucket(4) count(8)
+    private static final int HEADER_SIZE = 20;
+    private static final int ENTRY_SIZE = 12;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total = 0;
+    private int covered = 0; // 로그 레코드 [0, covered)가 반영됨(저장소용)
+
+    /** 점수 하나 추가(음수는 0으로) */
+    public void record(int score) {
+        counts[bucketOf(score)]++;
+        total++;
+    }
+
+    /** 다른 히스토그램의 개수를 더함 */
+    public void merge(ScoreHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) counts[i] += other.counts[i];
+        total += other.total;
+    }
+
+    public long total() { return total; }
+
+    /** score가 기존 기록들 사이에서 어디쯤인지(같은 버킷은 절반씩 위/아래로 나눠 셈) */
+    public Standing standing(int score) {
+        int b = bucketOf(score);
+        long below = 0;
+        for (int i = 0; i < b; i++) below += counts[i];
+        long same = counts[b];
+        long above = total - below - same;
+        // 정확 구간(2048 미만)이면 동점은 "이긴 것"도 "진 것"도 아님, 그 위는 버킷 안에서 반반으로 추정
+        double beat = (total == 0) ? 100.0 : 100.0 * (below + (b < LINEAR ? 0 : same / 2.0)) / total;
+        long higher = (b < LINEAR) ? above : above + same / 2;
+        return new Standing(score, higher + 1, total, beat);
+    }
+
+    /** 백분위 p(0~100)에 해당하는 점수(버킷 대표값). 기록이 없으면 0 */
+    public int valueAtPercentile(double p) {
+        if (total == 0) return 0;
+        long target = (long) Math.ceil(Math.max(0, Math.min(100, p)) / 100.0 * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, target)) return lowestOf(i);
+        }
+        return lowestOf(BUCKETS - 1);
+    }
+
+    // ---------- 버킷 계산 ----------
+
+    static int bucketOf(int score) {
+        if (score < LINEAR) return Math.max(0, score);
+        int exp = 31 - Integer.numberOfLeadingZeros(score);  // score의 최상위 비트 위치(≥ 11)
+        int shift = exp - SUB_BITS;                          // 구간 안에서 버릴 하위 비트 수
+        int sub = (score >>> shift) - SUB;                   // 0 ~ 1023
+        return LINEAR + (exp - (SUB_BITS + 1)) * SUB + sub;
+    }
+
+    static int lowestOf(int bucket) {
+        if (bucket < LINEAR) return bucket;
+        int k = bucket - LINEAR;
+        int exp = k / SUB + SUB_BITS + 1;
+        int sub = k % SUB;
+        return (SUB + sub) << (exp - SUB_BITS);
+    }
+
+    // ---------- 저장소 연동 ----------
+
+    /** 로그 record번째 기록 반영(이미 반영한 번호면 무시) */
+    void offer(int record, int score) {
+        if (record < covered) return;
+        covered = record + 1;
+        record(score);
+    }
+
+    int covered() { return covered; }
+
+    void clear() {
+        java.util.Arrays.fill(counts, 0L);
+        total = 0;
+        covered = 0;
+    }
+
+    /** 분포를 비우고 저장 파일도 지움(compact 등) */
+    void discard(Path path) throws IOException {
+        clear();
+        IndexFiles.delete(path);
+    }
+
+    /** 파일에서 읽기. 없거나 형식/CRC가 맞지 않으면 false(호출자가 로그에서 다시 만든다) */
+    boolean load(Path path) {
+        clear();
+        try {
+            ByteBuffer b = IndexFiles.read(path, HEADER_SIZE);
+            if (b == null) return false;
+            int n = b.getInt(12);
+            if (b.getInt(0) != MAGIC || b.getShort(4) != VERSION || b.getShort(6) != SUB_BITS
+                    || n < 0 || n > BUCKETS || b.capacity() != HEADER_SIZE + n * ENTRY_SIZE) {
+                return false;
+            }
+            for (int i = 0; i < n; i++) {
+                int p = HEADER_SIZE + i * ENTRY_SIZE;
+                int bucket = b.getInt(p);
+                long c = b.getLong(p + 4);
+                if (bucket < 0 || bucket >= BUCKETS || c < 0) { clear(); return false; }
+                counts[bucket] = c;
+                total += c;
+            }
+            covered = b.getInt(8);
+            return true;
+        } catch (IOException ex) {
+            clear();
+            return false;
+        }
+    }
+
+    /** 0이 아닌 버킷만 저장 */
+    void save(Path path) throws IOException {
+        int n = 0;
+        for (long c : counts) if (c != 0) n++;
+        ByteBuffer b = ByteBuffer.allocate(HEADER_SIZE + n * ENTRY_SIZE);
+        b.putInt(0, MAGIC);
+        b.putShort(4, VERSION);
+        b.putShort(6, (short) SUB_BITS);
+        b.putInt(8, covered);
+        b.putInt(12, n);
+        int p = HEADER_SIZE;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] == 0) continue;
+            b.putInt(p, i);
+            b.putLong(p + 4, counts[i]);
+            p += ENTRY_SIZE;
+        }
+        IndexFiles.write(path, b, HEADER_SIZE);
+    }
+}
@@ -0,0 +1,139 @@
+package com.balloon.game;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * BalloonIndex
+ * - 살아있는 풍선을 "슬롯 배열 + (정규화된 단어 → 슬롯 번호 큐)" 해시로 보관하는 인덱스.
+ * - 입력 단어 매칭/제거가 O(1): 제거하면 슬롯에 null(툼스톤)만 남기고 뒤 요소를 밀지 않는다.
+ * - 같은 단어가 여러 개면 먼저 생성된 풍선부터 꺼낸다(기존 popFirstByText와 같은 순서).
+ * - 툼스톤이 살아있는 수보다 많아지면 슬롯을 한 번에 압축한다(엔드리스 모드에서도 메모리 일정).
+ *
+ * @param <T> 풍선 타입(BalloonSprite, Balloon 등)
+ */
+public final class BalloonIndex<T> implements Iterable<T> {
+
+    private static final int COMPACT_MIN_TOMBSTONES = 32;
+
+    private final Function<T, String> textOf;
+    private final boolean ignoreCase;
+
+    private final ArrayList<T> slots = new ArrayList<>();                    // null = 툼스톤
+    private final Map<String, ArrayDeque<Integer>> byText = new HashMap<>();  // 단어 → 살아있는 슬롯들
+    private int live = 0;
+
+    /**
+     * @param textOf     풍선에서 단어를 꺼내는 함수
+     * @param ignoreCase true면 대소문자 무시(equalsIgnoreCase와 같은 판정)
+     */
+    public BalloonIndex(Function<T, String> textOf, boolean ignoreCase) {
+        this.textOf = textOf;
+        this.ignoreCase = ignoreCase;
+    }
+
+    /** 풍선 추가(스폰). 슬롯 번호 반환 */
+    public int add(T balloon) {
+        int slot = slots.size();
+        slots.add(balloon);
+        byText.computeIfAbsent(key(textOf.apply(balloon)), k -> new ArrayDeque<>()).addLast(slot);
+        live++;
+        return slot;
+    }
+
+    /** 단어와 일치하는 (가장 먼저 생성된) 풍선 조회. 없으면 null */
+    public T peek(String text) {
+        if (text == null || text.isEmpty()) return null;
+        ArrayDeque<Integer> q = byText.get(key(text));
+        if (q == null || q.isEmpty()) return null;
+        return slots.get(q.peekFirst());
+    }
+
+    /** 단어와 일치하는 풍선을 꺼내고(툼스톤 처리) 반환. 없으면 null */
+    public T pop(String text) {
+        if (text == null || text.isEmpty()) return null;
+        String k = key(text);
+        ArrayDeque<Integer> q = byText.get(k);
+        if (q == null || q.isEmpty()) return null;
+
+        int slot = q.pollFirst();
+        if (q.isEmpty()) byText.remove(k);
+        T b = slots.set(slot, null);
+        live--;
+        maybeCompact();
+        return b;
+    }
+
+    /** 살아있는 풍선 수 */
+    public int size() { return live; }
+
+    public boolean isEmpty() { return live == 0; }
+
+    /** 전부 비우기(스테이지 리셋) */
+    public void clear() {
+        slots.clear();
+        byText.clear();
+        live = 0;
+    }
+
+    /** 살아있는 풍선을 생성 순서대로 순회(툼스톤은 건너뜀) */
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0, n = slots.size(); i < n; i++) {
+            T b = slots.get(i);
+            if (b != null) action.accept(b);
+        }
+    }
+
+    /** for-each용: 살아있는 풍선만 생성 순서대로 */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < slots.size() && slots.get(from) == null) from++;
+                return from;
+            }
+
+            @Override public boolean hasNext() { return next < slots.size(); }
+
+            @Override public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                T b = slots.get(next);
+                next = advance(next + 1);
+                return b;
+            }
+        };
+    }
+
+    /** 슬롯 수(툼스톤 포함). slotAt()과 함께 할당 없는 순회에 사용 */
+    public int slotCount() { return slots.size(); }
+
+    /** i번째 슬롯(툼스톤이면 null) */
+    public T slotAt(int i) { return slots.get(i); }
+
+    // ---------- 내부 ----------
+
+    private String key(String text) {
+        if (text == null) return "";
+        return ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+    }
+
+    /** 툼스톤이 많아지면 살아있는 것만 앞으로 모으고 슬롯 번호를 다시 매김(상환 O(1)) */
+    private void maybeCompact() {
+        int tombstones = slots.size() - live;
+        if (tombstones < COMPACT_MIN_TOMBSTONES || tombstones <= live) return;
+
+        ArrayList<T> alive = new ArrayList<>(live);
+        for (T b : slots) if (b != null) alive.add(b);
+        clear();
+        for (T b : alive) add(b);
+    }
+}
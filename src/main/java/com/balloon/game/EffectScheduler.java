@@ -0,0 +1,184 @@
+package com.balloon.game;
+
+import com.balloon.util.HierarchicalTimingWheel;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * EffectScheduler
+ * - BLIND/REVERSE처럼 지속시간이 있는 효과의 시작/만료를 관리하는 스케줄러.
+ * - 시계는 게임 틱(GameLoop 스텝 등): 주인이 advanceTo(tick)/tick()으로 진행시킨다 → 일시정지/헤드리스 시뮬레이션에서도 같은 결과.
+ * - 만료는 HierarchicalTimingWheel로 예약 → 효과가 몇 개 걸려 있든 틱당 비용 O(1).
+ * - 같은 효과를 다시 걸 때의 규칙(Policy, 효과별로 지정, 기본 REFRESH):
+ *     REFRESH : 남은 시간을 새 지속시간으로 다시 채움(더 긴 쪽 유지)
+ *     EXTEND  : 남은 시간에 새 지속시간을 더함
+ *     STACK   : 따로 하나 더 건다(중첩 수 +1, 각자 만료)
+ * - 리스너는 효과가 "꺼짐→켜짐"(effectStarted), "켜짐→꺼짐"(effectEnded)으로 바뀔 때만 불린다.
+ * - 스레드 안전하지 않음: 게임 루프 스레드에서만(리스너 등록만 아무 스레드에서 가능).
+ */
+public final class EffectScheduler {
+
+    public enum Policy { REFRESH, EXTEND, STACK }
+
+    public enum EndReason { EXPIRED, CANCELLED }
+
+    /** 효과 상태 변화 알림(게임 루프 스레드에서 불림) */
+    public interface Listener {
+        void effectStarted(TimedEffect effect);
+
+        void effectEnded(TimedEffect effect, EndReason reason);
+    }
+
+    /** 걸린 효과 하나(STACK이면 중첩마다 하나). cancel()로 이것만 풀 수 있다 */
+    public final class Handle {
+        public final TimedEffect effect;
+        private final HierarchicalTimingWheel.Timer timer = new HierarchicalTimingWheel.Timer(this::expire);
+        private int index; // active 목록 안의 위치(빼낼 때 O(1))
+
+        private Handle(TimedEffect effect) {
+            this.effect = effect;
+        }
+
+        public boolean isActive() { return timer.isScheduled(); }
+
+        /** 남은 틱(풀렸으면 0) */
+        public long remainingTicks() { return wheel.remaining(timer); }
+
+        /** 이 효과(중첩 하나)만 해제. 이미 풀렸으면 false */
+        public boolean cancel() {
+            if (!wheel.cancel(timer)) return false;
+            end(this, EndReason.CANCELLED);
+            return true;
+        }
+
+        private void expire() {
+            end(this, EndReason.EXPIRED);
+        }
+    }
+
+    private final int ticksPerSecond;
+    private final HierarchicalTimingWheel wheel = new HierarchicalTimingWheel();
+    private final Policy[] policies = new Policy[TimedEffect.values().length];
+    private final Map<TimedEffect, List<Handle>> active = new EnumMap<>(TimedEffect.class); // 효과별 걸려 있는 것들
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /** @param ticksPerSecond 게임 시계의 초당 틱 수(GameLoop 스텝 수와 같게) */
+    public EffectScheduler(int ticksPerSecond) {
+        this.ticksPerSecond = Math.max(1, ticksPerSecond);
+        for (TimedEffect e : TimedEffect.values()) {
+            policies[e.ordinal()] = Policy.REFRESH;
+            active.put(e, new ArrayList<>(2));
+        }
+    }
+
+    public void setPolicy(TimedEffect effect, Policy policy) {
+        policies[effect.ordinal()] = policy;
+    }
+
+    public Policy getPolicy(TimedEffect effect) {
+        return policies[effect.ordinal()];
+    }
+
+    public void addListener(Listener l) { listeners.add(l); }
+
+    public void removeListener(Listener l) { listeners.remove(l); }
+
+    public int getTicksPerSecond() { return ticksPerSecond; }
+
+    // ---------- 걸기 / 풀기 ----------
+
+    /** durationSec초 동안 효과 걸기(0 이하면 무시하고 null) */
+    public Handle apply(TimedEffect effect, int durationSec) {
+        return applyTicks(effect, (long) durationSec * ticksPerSecond);
+    }
+
+    /** 틱 단위로 효과 걸기. 적용된(또는 갱신된) 핸들, 0 이하면 null */
+    public Handle applyTicks(TimedEffect effect, long ticks) {
+        if (ticks <= 0) return null;
+        List<Handle> list = active.get(effect);
+        Policy policy = policies[effect.ordinal()];
+
+        if (!list.isEmpty() && policy != Policy.STACK) {
+            Handle h = list.get(0);
+            long remaining = wheel.remaining(h.timer);
+            long next = (policy == Policy.EXTEND) ? remaining + ticks : Math.max(remaining, ticks);
+            wheel.schedule(h.timer, next);
+            return h;
+        }
+
+        Handle h = new Handle(effect);
+        boolean wasOff = list.isEmpty();
+        h.index = list.size();
+        list.add(h);
+        wheel.schedule(h.timer, ticks);
+        if (wasOff) {
+            for (Listener l : listeners) l.effectStarted(effect);
+        }
+        return h;
+    }
+
+    /** 효과를 중첩까지 모두 해제. 걸려 있었으면 true */
+    public boolean cancel(TimedEffect effect) {
+        List<Handle> list = active.get(effect);
+        if (list.isEmpty()) return false;
+        for (int i = list.size() - 1; i >= 0; i--) list.get(i).cancel();
+        return true;
+    }
+
+    /** 전부 해제(판 종료 등) */
+    public void cancelAll() {
+        for (TimedEffect e : TimedEffect.values()) cancel(e);
+    }
+
+    // ---------- 조회 ----------
+
+    public boolean isActive(TimedEffect effect) {
+        return !active.get(effect).isEmpty();
+    }
+
+    /** 걸려 있는 중첩 수(REFRESH/EXTEND면 0 또는 1) */
+    public int stacks(TimedEffect effect) {
+        return active.get(effect).size();
+    }
+
+    /** 가장 오래 남은 중첩의 남은 틱(꺼져 있으면 0) */
+    public long remainingTicks(TimedEffect effect) {
+        long max = 0;
+        for (Handle h : active.get(effect)) max = Math.max(max, wheel.remaining(h.timer));
+        return max;
+    }
+
+    /** 남은 시간(초, 올림) — HUD 표시용 */
+    public int remainingSeconds(TimedEffect effect) {
+        return (int) ((remainingTicks(effect) + ticksPerSecond - 1) / ticksPerSecond);
+    }
+
+    // ---------- 시계 ----------
+
+    /** 현재 틱 */
+    public long now() { return wheel.now(); }
+
+    /** 한 틱 진행 */
+    public void tick() { wheel.advanceTo(wheel.now() + 1); }
+
+    /** 게임 시계 tick까지 진행(만료된 효과의 리스너가 이 안에서 불림) */
+    public void advanceTo(long tick) { wheel.advanceTo(tick); }
+
+    // ---------- 내부 ----------
+
+    private void end(Handle h, EndReason reason) {
+        List<Handle> list = active.get(h.effect);
+        Handle last = list.remove(list.size() - 1); // 마지막 것을 빈자리로(순서 무관)
+        if (last != h) {
+            list.set(h.index, last);
+            last.index = h.index;
+        }
+        if (list.isEmpty()) {
+            for (Listener l : listeners) l.effectEnded(h.effect, reason);
+        }
+    }
+}
@@ -19,6 +19,38 @@ public class GameJudge {
         return null; // 못 찾으면 null
     }
 
+    /** 인덱스 버전: 해시 조회 O(1) (리스트 전체를 훑지 않음) */
+    public Balloon findBestMatch(BalloonIndex<Balloon> index, String input) {
+        if (index == null || input == null || input.isEmpty()) return null;
+        return index.peek(input);
+    }
+
+    /**
+     * 인덱스 버전 입력 판정: 맞으면 인덱스에서 꺼내고(O(1)) pop, 틀리면 onMiss.
+     * balloons 리스트에는 터진 풍선이 비활성 상태로 남아 있어 규칙의 전체 클리어 판정에 그대로 쓰인다.
+     */
+    public boolean submit(List<Balloon> balloons, BalloonIndex<Balloon> index, String input, GameRules rules) {
+        Balloon matched = (input == null || input.isEmpty()) ? null : index.pop(input);
+
+        if (matched != null) {                     // 정답
+            matched.pop();                         // 풍선 터뜨림
+            rules.onPop(balloons);                 // 규칙 처리 (점수/다음레벨)
+            return true;
+        }
+
+        rules.onMiss();                            // 오답
+        return false;
+    }
+
+    /** 정확 일치(대소문자 구분) 판정용 인덱스 생성 헬퍼 */
+    public static BalloonIndex<Balloon> newIndex(List<Balloon> balloons) {
+        BalloonIndex<Balloon> index = new BalloonIndex<>(Balloon::getWord, false);
+        if (balloons != null) {
+            for (Balloon b : balloons) if (b.isActive()) index.add(b);
+        }
+        return index;
+    }
+
     /** 입력 판정: 맞으면 pop, 틀리면 onMiss */
     public boolean submit(List<Balloon> balloons, String input, GameRules rules) {
         Balloon matched = findBestMatch(balloons, input);
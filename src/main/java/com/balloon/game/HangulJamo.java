@@ -0,0 +1,89 @@
+package com.balloon.game;
+
+/**
+ * HangulJamo
+ * - 한글 음절을 "두벌식 키 입력 순서"의 자모열로 분해한다.
+ *   예) "도서관" → ㄷ ㅗ ㅅ ㅓ ㄱ ㅗ ㅏ ㄴ  (ㅘ = ㅗ+ㅏ, ㄳ = ㄱ+ㅅ 처럼 겹모음/겹받침은 나눔)
+ * - IME 조합 중 글자("ㄷ" → "도" → "돗" → "도서")도 자모열로 바꾸면 앞부분이 그대로 유지되므로
+ *   접두사 비교/진행도 계산이 음절 단위보다 정확하다.
+ * - 호출자가 준 char[]에 써 넣기만 하고 새 문자열은 만들지 않는다.
+ * - 한글이 아닌 글자는 소문자로만 바꿔 그대로 쓴다.
+ */
+public final class HangulJamo {
+
+    private HangulJamo() {}
+
+    /** 글자 하나가 늘어날 수 있는 최대 자모 수(초성1 + 겹모음2 + 겹받침2) */
+    public static final int MAX_PER_CHAR = 5;
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char COMPAT_FIRST  = 0x3131; // ㄱ
+    private static final char COMPAT_LAST   = 0x3163; // ㅣ
+
+    // 음절 분해 인덱스 → 호환 자모
+    private static final String CHO  = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 호환 자모 → 키 입력 순서(겹모음/겹받침만 2타, 나머지는 자기 자신)
+    private static final char[][] KEYS = new char[COMPAT_LAST - COMPAT_FIRST + 1][];
+    static {
+        for (char c = COMPAT_FIRST; c <= COMPAT_LAST; c++) KEYS[c - COMPAT_FIRST] = new char[]{ c };
+        split('ㄳ', "ㄱㅅ"); split('ㄵ', "ㄴㅈ"); split('ㄶ', "ㄴㅎ");
+        split('ㄺ', "ㄹㄱ"); split('ㄻ', "ㄹㅁ"); split('ㄼ', "ㄹㅂ"); split('ㄽ', "ㄹㅅ");
+        split('ㄾ', "ㄹㅌ"); split('ㄿ', "ㄹㅍ"); split('ㅀ', "ㄹㅎ"); split('ㅄ', "ㅂㅅ");
+        split('ㅘ', "ㅗㅏ"); split('ㅙ', "ㅗㅐ"); split('ㅚ', "ㅗㅣ");
+        split('ㅝ', "ㅜㅓ"); split('ㅞ', "ㅜㅔ"); split('ㅟ', "ㅜㅣ"); split('ㅢ', "ㅡㅣ");
+    }
+
+    private static void split(char compound, String keys) {
+        KEYS[compound - COMPAT_FIRST] = keys.toCharArray();
+    }
+
+    /**
+     * 글자 하나를 분해해 dst[off..]에 쓴다.
+     * @return 다음 쓸 위치(dst 용량은 호출자가 MAX_PER_CHAR만큼 보장)
+     */
+    public static int decompose(char c, char[] dst, int off) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int idx = c - SYLLABLE_BASE;
+            off = emit(CHO.charAt(idx / 588), dst, off);
+            off = emit(JUNG.charAt((idx % 588) / 28), dst, off);
+            int jong = idx % 28;
+            if (jong != 0) off = emit(JONG.charAt(jong), dst, off);
+            return off;
+        }
+        if (c >= COMPAT_FIRST && c <= COMPAT_LAST) return emit(c, dst, off);
+        dst[off++] = Character.toLowerCase(c);
+        return off;
+    }
+
+    /**
+     * 문자열 구간 [from, to)를 분해해 dst[off..]에 쓴다.
+     * @return 다음 쓸 위치
+     */
+    public static int decompose(CharSequence src, int from, int to, char[] dst, int off) {
+        for (int i = from; i < to; i++) off = decompose(src.charAt(i), dst, off);
+        return off;
+    }
+
+    /** 스폰 시 한 번: 단어 전체를 자모 배열로(풍선에 캐시해 둠) */
+    public static char[] decompose(String word) {
+        if (word == null || word.isEmpty()) return new char[0];
+        char[] buf = new char[word.length() * MAX_PER_CHAR];
+        int n = decompose(word, 0, word.length(), buf, 0);
+        return java.util.Arrays.copyOf(buf, n);
+    }
+
+    /** 한글 음절 또는 호환 자모인지 */
+    public static boolean isHangul(char c) {
+        return (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) || (c >= COMPAT_FIRST && c <= COMPAT_LAST);
+    }
+
+    private static int emit(char compat, char[] dst, int off) {
+        char[] keys = KEYS[compat - COMPAT_FIRST];
+        for (char k : keys) dst[off++] = k;
+        return off;
+    }
+}
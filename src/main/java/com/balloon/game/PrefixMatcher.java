@@ -0,0 +1,212 @@
+package com.balloon.game;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * PrefixMatcher
+ * - 살아있는 풍선 단어들로 만든 트라이(trie) + "지금까지 입력한 글자" 커서.
+ * - 입력창이 바뀔 때 setInput()을 부르면 바뀐 뒷부분만 트라이를 따라가므로
+ *   한 글자 입력/백스페이스는 상환 O(1).
+ * - 각 풍선은 스폰 시 자기 단어의 노드 경로를 저장해 두어,
+ *   isCandidate(풍선)이 "경로[입력길이] == 현재 노드" 비교 한 번(O(1))으로 끝난다.
+ * - 현재 노드의 살아있는 단어 수로 "유일하게 정확히 일치"(자동 팝 조건)도 O(1)로 판정.
+ * - 대소문자는 무시한다(소문자로 정규화).
+ * - char[] 버전 add/setInput은 미리 분해된 키열(예: HangulJamo 자모열)을 그대로 키로 쓴다.
+ *   → 한글은 IME 조합 중 글자도 자모 단위로 접두사 진행을 따라갈 수 있다.
+ * - 새로 입력된 키마다 "아직 어떤 단어의 접두사인가"를 세어 키 단위 정확도 통계를 낸다.
+ *
+ * @param <T> 풍선 타입
+ */
+public final class PrefixMatcher<T> {
+
+    /** 트라이 노드: 자식은 (글자, 노드) 병렬 배열 — 풍선 단어는 분기가 적어 선형 탐색이 가장 싸다 */
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] kids = new Node[0];
+        int liveUnder;     // 이 노드를 지나가는(=이 접두사로 시작하는) 살아있는 단어 수
+        int terminalLive;  // 정확히 여기서 끝나는 살아있는 단어 수
+
+        Node child(char c) {
+            for (int i = 0; i < keys.length; i++) if (keys[i] == c) return kids[i];
+            return null;
+        }
+
+        Node childOrCreate(char c) {
+            Node n = child(c);
+            if (n != null) return n;
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            kids = Arrays.copyOf(kids, kids.length + 1);
+            n = new Node();
+            keys[keys.length - 1] = c;
+            kids[kids.length - 1] = n;
+            return n;
+        }
+    }
+
+    private Node root = new Node();
+    private final Map<T, Node[]> paths = new IdentityHashMap<>(); // 풍선 → [root, 1글자, 2글자, ...]
+
+    // 입력 커서: typed[0..typedLen) = 정규화된 입력, stack[i] = i글자 입력 후 노드(없으면 null)
+    private char[] typed = new char[32];
+    private Node[] stack = new Node[33];
+    private int typedLen = 0;
+    private int version = 0; // 후보 집합이 바뀔 때마다 증가(렌더러 갱신 판단용)
+    private char[] scratch = new char[32]; // CharSequence 입력 정규화용 재사용 버퍼
+
+    // 키 단위 정확도 통계(스테이지 리셋과 무관하게 누적)
+    private long keysTyped = 0;
+    private long keysCorrect = 0;
+
+    public PrefixMatcher() {
+        stack[0] = root;
+    }
+
+    /** 풍선 등록(스폰) - 단어 글자를 소문자로 정규화해 키로 사용 */
+    public void add(T item, CharSequence word) {
+        if (word == null) return;
+        char[] keys = new char[word.length()];
+        for (int i = 0; i < keys.length; i++) keys[i] = norm(word.charAt(i));
+        add(item, keys);
+    }
+
+    /** 풍선 등록(스폰) - 미리 분해/정규화된 키열 사용(풍선에 캐시된 자모열 등) */
+    public void add(T item, char[] keys) {
+        if (item == null || keys == null || paths.containsKey(item)) return;
+        Node[] path = new Node[keys.length + 1];
+        Node n = root;
+        path[0] = n;
+        n.liveUnder++;
+        for (int i = 0; i < keys.length; i++) {
+            n = n.childOrCreate(keys[i]);
+            n.liveUnder++;
+            path[i + 1] = n;
+        }
+        n.terminalLive++;
+        paths.put(item, path);
+        rebindCursor(); // 새 노드가 생겼을 수 있으니 커서 경로 갱신
+        if (typedLen > 0 && isCandidatePath(path)) version++; // 새 풍선이 현재 후보에 들어옴
+    }
+
+    /** 풍선 제거(팝) */
+    public void remove(T item) {
+        Node[] path = paths.remove(item);
+        if (path == null) return;
+        for (Node n : path) n.liveUnder--;
+        path[path.length - 1].terminalLive--;
+        if (typedLen > 0 && isCandidatePath(path)) version++;
+    }
+
+    /** 전부 비우기(스테이지 리셋). 입력 커서도 처음으로 */
+    public void clear() {
+        paths.clear();
+        root = new Node();
+        stack[0] = root;
+        rebindCursor();
+        version++;
+    }
+
+    /**
+     * 입력창 내용이 바뀌었을 때 호출.
+     * 기존 입력과 같은 앞부분은 그대로 두고, 달라진 뒷부분만 트라이를 따라간다.
+     */
+    public void setInput(CharSequence text) {
+        int len = (text == null) ? 0 : text.length();
+        if (scratch.length < len) scratch = new char[Math.max(len, scratch.length * 2)];
+        for (int i = 0; i < len; i++) scratch[i] = norm(text.charAt(i));
+        setInput(scratch, len);
+    }
+
+    /** 미리 분해/정규화된 입력 키열 keys[0..len)로 커서 갱신(할당 없음) */
+    public void setInput(char[] keys, int len) {
+        int common = 0;
+        int max = Math.min(len, typedLen);
+        while (common < max && typed[common] == keys[common]) common++;
+
+        Node before = current();
+        int beforeLen = typedLen;
+
+        typedLen = common;
+        for (int i = common; i < len; i++) {
+            push(keys[i]);
+            keysTyped++;
+            if (current() != null && current().liveUnder > 0) keysCorrect++;
+        }
+
+        if (current() != before || (beforeLen == 0) != (typedLen == 0)) version++;
+    }
+
+    /** 현재 입력 키 수 중 살아있는 단어의 접두사로 이어지는 길이(진행도) */
+    public int matchedDepth() {
+        int d = typedLen;
+        while (d > 0 && (stack[d] == null || stack[d].liveUnder == 0)) d--;
+        return d;
+    }
+
+    /** 누적 입력 키 수(백스페이스 후 다시 친 키도 포함) */
+    public long keysTyped() { return keysTyped; }
+
+    /** 누적 입력 키 중 그 순간 어떤 풍선 단어의 접두사였던 키 수 */
+    public long keysCorrect() { return keysCorrect; }
+
+    public void resetStats() {
+        keysTyped = 0;
+        keysCorrect = 0;
+    }
+
+    /** 풍선이 현재 입력의 후보(입력을 접두사로 가진 단어)인지 — O(1) */
+    public boolean isCandidate(T item) {
+        if (typedLen == 0) return false;
+        Node[] path = paths.get(item);
+        return path != null && isCandidatePath(path);
+    }
+
+    /** 현재 입력으로 시작하는 살아있는 풍선 수 */
+    public int candidateCount() {
+        Node n = current();
+        return (typedLen == 0 || n == null) ? 0 : n.liveUnder;
+    }
+
+    /** 입력이 어떤 단어와 정확히 같고, 그 단어로 시작하는 더 긴 단어는 없는가(자동 팝 조건) */
+    public boolean hasUniqueExactMatch() {
+        Node n = current();
+        return typedLen > 0 && n != null && n.terminalLive > 0 && n.liveUnder == n.terminalLive;
+    }
+
+    /** 후보 집합이 바뀔 때마다 증가하는 값 */
+    public int version() { return version; }
+
+    // ---------- 내부 ----------
+
+    private Node current() { return stack[typedLen]; }
+
+    private boolean isCandidatePath(Node[] path) {
+        return path.length > typedLen && path[typedLen] == stack[typedLen] && stack[typedLen] != null;
+    }
+
+    private void push(char c) {
+        if (typedLen >= typed.length) {
+            typed = Arrays.copyOf(typed, typed.length * 2);
+            stack = Arrays.copyOf(stack, typed.length + 1);
+        }
+        Node cur = stack[typedLen];
+        typed[typedLen] = c;
+        typedLen++;
+        stack[typedLen] = (cur == null) ? null : cur.child(c);
+    }
+
+    /** 트라이가 바뀐 뒤(새 노드 생성/리셋) 커서 경로를 다시 잇는다. 입력 길이만큼만 걸림 */
+    private void rebindCursor() {
+        Node n = root;
+        stack[0] = n;
+        for (int i = 0; i < typedLen; i++) {
+            n = (n == null) ? null : n.child(typed[i]);
+            stack[i + 1] = n;
+        }
+    }
+
+    private static char norm(char c) {
+        return Character.toLowerCase(c);
+    }
+}
@@ -8,9 +8,19 @@ import java.util.Set;
 
 public class StaticWordProvider implements WordProvider {
     private final List<String> pool;
-    private final Random rnd = new Random();            //랜덤뽑기
+    private final Random rnd;                           //랜덤뽑기
 
-    public StaticWordProvider(List<String> words) {     //중복제거,null방지
+    public StaticWordProvider(List<String> words) {
+        this(words, new Random());
+    }
+
+    //시드 지정(시뮬레이션/리플레이: 같은 시드면 같은 단어 순서)
+    public StaticWordProvider(List<String> words, long seed) {
+        this(words, new Random(seed));
+    }
+
+    private StaticWordProvider(List<String> words, Random rnd) {     //중복제거,null방지
+        this.rnd = rnd;
         Set<String> unique = new HashSet<>(words);
 
         this.pool = new ArrayList<>();
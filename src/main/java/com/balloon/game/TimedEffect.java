@@ -0,0 +1,7 @@
+package com.balloon.game;
+
+/** 시간이 지나면 풀리는 효과 종류(EffectScheduler 키) */
+public enum TimedEffect {
+    BLIND,   // 상대 화면 가리기
+    REVERSE  // 상대 입력 반전
+}
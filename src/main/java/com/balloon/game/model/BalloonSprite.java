@@ -1,5 +1,8 @@
 package com.balloon.game.model;
 
+import com.balloon.game.HangulJamo;
+
+import java.awt.*;
 import java.awt.image.BufferedImage;
 
 /** PNG 풍선 + 줄(실) 앵커 좌표 보유 */
@@ -7,6 +10,7 @@ public class BalloonSprite {
     public enum State { ALIVE, DEAD }
 
     public final String text;
+    public final char[] jamo;   // 스폰 시 한 번 분해해 둔 키 입력 자모열(접두사 매칭용)
     public final BufferedImage img;
 
     public int x, y;            // 풍선 중심 좌표
@@ -19,6 +23,7 @@ public class BalloonSprite {
     public BalloonSprite(String text, BufferedImage img, int x, int y,
                          int anchorX, int anchorY) {
         this.text = text;
+        this.jamo = HangulJamo.decompose(text);
         this.img = img;
         this.x = x; this.y = y;
         this.anchorX = anchorX; this.anchorY = anchorY;
@@ -26,4 +31,19 @@ public class BalloonSprite {
 
     public int attachX() { return x; }
     public int attachY() { return y + h/2 - tailOffset; } // 풍선 아랫부분 근처
+
+    /** 풍선 이미지+글자가 차지하는 영역(글자가 풍선보다 넓을 수 있어 좌우 여유 포함) */
+    public Rectangle bounds() {
+        int pad = 16;
+        return new Rectangle(x - w/2 - pad, y - h/2 - 2, w + pad*2, h + 4);
+    }
+
+    /** 줄(실)이 차지하는 영역: 앵커/부착점/곡선 제어점을 감싸는 사각형(선 두께 여유 포함) */
+    public Rectangle lineBounds() {
+        int bx = attachX(), by = attachY();
+        int cy = Math.min(anchorY, by) - 40; // BalloonSpriteRenderer의 제어점과 동일
+        int minX = Math.min(anchorX, bx), maxX = Math.max(anchorX, bx);
+        int minY = Math.min(cy, Math.min(anchorY, by)), maxY = Math.max(anchorY, by);
+        return new Rectangle(minX - 2, minY - 2, maxX - minX + 4, maxY - minY + 4);
+    }
 }
@@ -1,6 +1,8 @@
 package com.balloon.game.render;
 
+import com.balloon.game.EffectScheduler;
 import com.balloon.game.GameState;
+import com.balloon.game.TimedEffect;
 
 /**
  * 아이템 효과 적용 여부를 눈에 확실하게 보기 위한 디버그 전용 Runtime
@@ -9,9 +11,26 @@ import com.balloon.game.GameState;
 public class DebugRuntime implements GameRuntime {
 
     private final GameState gs;
+    private final EffectScheduler effects = new EffectScheduler(60);
 
     public DebugRuntime(GameState gs) {
         this.gs = gs;
+        effects.addListener(new EffectScheduler.Listener() {
+            @Override
+            public void effectStarted(TimedEffect effect) {
+                System.out.println("[Item] " + effect + " 시작");
+            }
+
+            @Override
+            public void effectEnded(TimedEffect effect, EffectScheduler.EndReason reason) {
+                System.out.println("[Item] " + effect + " 종료 (" + reason + ")");
+            }
+        });
+    }
+
+    @Override
+    public EffectScheduler effects() {
+        return effects;
     }
 
     @Override
@@ -33,11 +52,13 @@ public class DebugRuntime implements GameRuntime {
 
     @Override
     public void applyBlindToOpponent(int durationSec) {
-        System.out.println("[Item] BLIND 적용! (" + durationSec + "초)");
+        effects.apply(TimedEffect.BLIND, durationSec);
+        System.out.println("[Item] BLIND 적용! (" + durationSec + "초, 남은 " + effects.remainingSeconds(TimedEffect.BLIND) + "초)");
     }
 
     @Override
     public void applyReverseToOpponent(int durationSec) {
-        System.out.println("[Item] REVERSE 적용! (" + durationSec + "초)");
+        effects.apply(TimedEffect.REVERSE, durationSec);
+        System.out.println("[Item] REVERSE 적용! (" + durationSec + "초, 남은 " + effects.remainingSeconds(TimedEffect.REVERSE) + "초)");
     }
 }
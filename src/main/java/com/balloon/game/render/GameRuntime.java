@@ -1,8 +1,13 @@
 // src/main/java/com/balloon/game/GameRuntime.java
 package com.balloon.game.render;
 
+import com.balloon.game.EffectScheduler;
+
 /** 플레이 중 상태에 아이템 효과를 적용하기 위한 최소 포트 */
 public interface GameRuntime {
+    /** 지속 효과(BLIND/REVERSE) 만료 관리. 시계는 런타임 주인이 게임 틱으로 진행시킨다 */
+    EffectScheduler effects();
+
     void addTimeSeconds(int delta);
     void addMyBalloons(int delta);
     void addEnemyBalloons(int delta);
@@ -2,14 +2,27 @@
 package com.balloon.game.render;
 
 import com.balloon.game.render.GameRuntime;    // 인터페이스 (네가 만든 위치 기준으로 import)
+import com.balloon.game.EffectScheduler;
 import com.balloon.game.GameState;
+import com.balloon.game.TimedEffect;
 
 public class UiRuntime implements GameRuntime {
 
     private final GameState gs;
+    private final EffectScheduler effects; // BLIND/REVERSE 만료 관리(게임 루프가 advanceTo로 진행)
 
     public UiRuntime(GameState gs) {
+        this(gs, new EffectScheduler(60)); // GameLoop 기본 60스텝
+    }
+
+    public UiRuntime(GameState gs, EffectScheduler effects) {
         this.gs = gs;
+        this.effects = effects;
+    }
+
+    @Override
+    public EffectScheduler effects() {
+        return effects;
     }
 
     @Override
@@ -35,13 +48,15 @@ public class UiRuntime implements GameRuntime {
 
     @Override
     public void applyBlindToOpponent(int durationSec) {
-        // 1P에선 시각효과가 없다면 no-op. 2P/효과 UI가 생기면 여기서 플래그 on/off.
-        System.out.println("[Item] BLIND " + durationSec + "s (no-op for now)");
+        // 켜짐/꺼짐은 스케줄러 리스너로(2P 화면 가리기 UI가 구독), 여기서는 걸기만
+        effects.apply(TimedEffect.BLIND, durationSec);
+        System.out.println("[Item] BLIND " + durationSec + "s (left=" + effects.remainingSeconds(TimedEffect.BLIND) + "s)");
     }
 
     @Override
     public void applyReverseToOpponent(int durationSec) {
-        // 1P에선 no-op. 2P/키 반전 구현 시 여기서 토글.
-        System.out.println("[Item] REVERSE " + durationSec + "s (no-op for now)");
+        // 입력 처리 쪽에서 effects().isActive(REVERSE)로 키 반전 여부 확인
+        effects.apply(TimedEffect.REVERSE, durationSec);
+        System.out.println("[Item] REVERSE " + durationSec + "s (left=" + effects.remainingSeconds(TimedEffect.REVERSE) + "s)");
     }
 }
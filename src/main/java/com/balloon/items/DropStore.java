@@ -0,0 +1,150 @@
+package com.balloon.items;
+
+import java.util.Arrays;
+
+/**
+ * DropStore
+ * - 화면에 떠 있는 드랍들을 "열 단위 기본형 배열"로 들고 있는 고정 용량 저장소.
+ *     종류(ItemKind 순번) / 지속시간(초) / 남은 수명(ms) / 위치(x, y)
+ *   → 드랍마다 객체를 만들지 않는다. 추가/삭제/순회 모두 할당 없음.
+ * - 살아 있는 드랍은 항상 [0, size) 앞쪽에 빽빽하게 모여 있다(삭제는 마지막 칸을 빈자리로 옮기는 swap-remove, O(1)).
+ *   그래서 순회 순서는 추가 순서와 다를 수 있다.
+ * - 밖에서는 칸 번호 대신 핸들(int)로 드랍을 가리킨다. 핸들 = 번호(id) + 세대:
+ *   id는 빈 번호 목록(free-list)에서 재사용하고, 재사용할 때마다 세대를 올려 이미 사라진 드랍의 핸들은 무효가 된다.
+ * - 꽉 차면 add()가 -1(새 드랍을 버림).
+ * - 스레드 안전하지 않음: 게임 루프 스레드에서만.
+ */
+public final class DropStore {
+
+    private static final ItemKind[] KINDS = ItemKind.values();
+    private static final int ID_BITS = 16;
+    private static final int ID_MASK = (1 << ID_BITS) - 1;
+
+    // 칸(0 ~ size-1)별 값
+    private final byte[] kind;
+    private final int[] durationSec;
+    private final long[] lifeMs;
+    private final float[] x, y;
+    private final int[] idAt;       // 칸 → id
+
+    // id별 값
+    private final int[] slotOf;     // id → 칸(-1 = 빈 id)
+    private final int[] generation; // id 재사용 횟수(핸들 위쪽 비트)
+    private final int[] freeIds;    // 빈 id 스택
+    private int freeTop;
+
+    private int size = 0;
+
+    /** @param capacity 동시에 떠 있을 수 있는 최대 드랍 수(1 ~ 65536) */
+    public DropStore(int capacity) {
+        if (capacity < 1 || capacity > ID_MASK + 1) throw new IllegalArgumentException("capacity " + capacity);
+        kind = new byte[capacity];
+        durationSec = new int[capacity];
+        lifeMs = new long[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        idAt = new int[capacity];
+        slotOf = new int[capacity];
+        generation = new int[capacity];
+        freeIds = new int[capacity];
+        Arrays.fill(slotOf, -1);
+        for (int i = 0; i < capacity; i++) freeIds[i] = capacity - 1 - i; // 0번부터 꺼내도록
+        freeTop = capacity;
+    }
+
+    /** 드랍 추가. 꽉 찼으면 -1, 아니면 핸들 */
+    public int add(ItemKind k, int durationSec, long lifeMs, float x, float y) {
+        if (freeTop == 0) return -1;
+        int id = freeIds[--freeTop];
+        int s = size++;
+        this.kind[s] = (byte) k.ordinal();
+        this.durationSec[s] = durationSec;
+        this.lifeMs[s] = lifeMs;
+        this.x[s] = x;
+        this.y[s] = y;
+        idAt[s] = id;
+        slotOf[id] = s;
+        return (generation[id] << ID_BITS) | id;
+    }
+
+    /** 핸들이 가리키는 드랍의 지금 칸(이미 사라졌으면 -1) */
+    public int slotOf(int handle) {
+        if (handle < 0) return -1;
+        int id = handle & ID_MASK;
+        if (id >= slotOf.length || generation[id] != (handle >>> ID_BITS)) return -1;
+        return slotOf[id];
+    }
+
+    /** 핸들로 삭제. 있었으면 true */
+    public boolean remove(int handle) {
+        int s = slotOf(handle);
+        if (s < 0) return false;
+        removeAt(s);
+        return true;
+    }
+
+    /**
+     * 칸 s 삭제: 마지막 칸을 s로 옮긴다.
+     * 순회 중 삭제라면 뒤에서부터 돌 것(앞으로 도는 중이면 옮겨 온 칸을 다시 봐야 함).
+     */
+    public void removeAt(int s) {
+        int id = idAt[s];
+        int last = --size;
+        if (s != last) {
+            kind[s] = kind[last];
+            durationSec[s] = durationSec[last];
+            lifeMs[s] = lifeMs[last];
+            x[s] = x[last];
+            y[s] = y[last];
+            idAt[s] = idAt[last];
+            slotOf[idAt[s]] = s;
+        }
+        slotOf[id] = -1;
+        generation[id] = (generation[id] + 1) & (Integer.MAX_VALUE >>> ID_BITS); // 핸들이 음수가 되지 않게
+        freeIds[freeTop++] = id;
+    }
+
+    /** 모든 드랍의 수명을 deltaMs만큼 줄이고 다 된 것은 지움. 지운 수 */
+    public int age(long deltaMs) {
+        int removed = 0;
+        for (int s = size - 1; s >= 0; s--) {
+            if ((lifeMs[s] -= deltaMs) <= 0) {
+                removeAt(s);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        while (size > 0) removeAt(size - 1);
+    }
+
+    public int size() { return size; }
+
+    public int capacity() { return kind.length; }
+
+    // ---------- 칸 단위 읽기(렌더링 순회용: for (int i = 0; i < size(); i++)) ----------
+
+    public ItemKind kind(int s) { return KINDS[kind[s]]; }
+
+    public int durationSec(int s) { return durationSec[s]; }
+
+    public long lifeMs(int s) { return lifeMs[s]; }
+
+    public float x(int s) { return x[s]; }
+
+    public float y(int s) { return y[s]; }
+
+    /** 칸 s의 드랍 핸들(픽업 대상 지정용) */
+    public int handle(int s) {
+        int id = idAt[s];
+        return (generation[id] << ID_BITS) | id;
+    }
+
+    /** 칸 s의 위치 변경(떨어지는 연출 등) */
+    public void moveTo(int s, float x, float y) {
+        this.x[s] = x;
+        this.y[s] = y;
+    }
+}
@@ -8,8 +8,12 @@ public final class ItemEffectApplier {
     private ItemEffectApplier() {}
 
     public static void apply(Item item, GameRuntime rt) {
-        // Item에 getKind()/getDurationSec()가 없다면 추가해줘
-        switch (item.getKind()) {
+        apply(item.getKind(), item.getDurationSec(), rt);
+    }
+
+    /** 드랍 저장소(DropStore)처럼 Item 객체 없이 종류/지속시간만 있을 때 */
+    public static void apply(ItemKind kind, int durationSec, GameRuntime rt) {
+        switch (kind) {
             // 1P TIME
             case TIME_PLUS5:   rt.addTimeSeconds(+5);  break;
             case TIME_MINUS5:  rt.addTimeSeconds(-5);  break;
@@ -21,8 +25,8 @@ public final class ItemEffectApplier {
             case BAL_ENEMY_M3:  rt.addEnemyBalloons(-3); break;
 
             // 2P TRICK
-            case BLIND:   rt.applyBlindToOpponent(item.getDurationSec());   break;
-            case REVERSE: rt.applyReverseToOpponent(item.getDurationSec()); break;
+            case BLIND:   rt.applyBlindToOpponent(durationSec);   break;
+            case REVERSE: rt.applyReverseToOpponent(durationSec); break;
         }
     }
 }
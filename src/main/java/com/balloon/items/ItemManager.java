@@ -1,55 +1,79 @@
 package com.balloon.items;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import com.balloon.game.render.GameRuntime;
+import com.balloon.util.RngStream;
 
 /**
  * 화면에 떠 있는 드랍 아이템을 관리하는 매니저
+ * - 게임 한 판마다 하나. 드랍 뽑기는 세션 난수 흐름(RngStream)에서 → 시드만 알면 같은 드랍을 재현
+ * - 드랍은 고정 용량 DropStore(기본형 배열 + 핸들)에 둔다 → 뽑기/수명 감소/픽업/렌더 순회 모두 할당 없음
  */
 public class ItemManager {
 
-    /** 드랍 상태로 떠 있는 아이템 리스트 */
-    private final List<LiveDrop> liveDrops = new ArrayList<>();
+    /** 동시에 떠 있을 수 있는 드랍 수(대전 모드 난전 기준으로 넉넉히) */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /** 드랍 상태로 떠 있는 아이템들 */
+    private final DropStore drops;
+
+    /** 드랍 뽑기 전용 난수 흐름 */
+    private final RngStream rng;
+
+    /** 새 시드로 시작 */
+    public ItemManager() {
+        this(RngStream.random());
+    }
+
+    /** 세션 난수 흐름을 받아서(리플레이/시뮬레이션이면 기록된 시드로 만든 흐름) */
+    public ItemManager(RngStream rng) {
+        this(rng, DEFAULT_CAPACITY);
+    }
+
+    public ItemManager(RngStream rng, int capacity) {
+        this.rng = rng;
+        this.drops = new DropStore(capacity);
+    }
+
+    /** 이 매니저의 난수 흐름(시드 기록용) */
+    public RngStream getRng() {
+        return rng;
+    }
 
     /** 아이템 하나 드랍시키기 (색 카테고리 기준 확률 뽑기) */
     public void rollAndDrop(ItemKind.ColorKey colorKey) {
-        Item item = ItemSpawner.roll(colorKey);
-        if (item == null) return;
+        rollAndDrop(colorKey, 0f, 0f);
+    }
+
+    /**
+     * (x, y)에 아이템 하나 드랍.
+     * @return 드랍 핸들. 뽑힌 게 없거나 저장소가 꽉 찼으면 -1
+     */
+    public int rollAndDrop(ItemKind.ColorKey colorKey, float x, float y) {
+        Item item = ItemSpawner.roll(colorKey, rng);
+        if (item == null) return -1;
 
         // 드랍 수명(sec → ms 변환)
-        liveDrops.add(new LiveDrop(item, item.lifeSec * 1000L));
+        return drops.add(item.kind, item.durationSec, item.lifeSec * 1000L, x, y);
     }
 
-    /** 플레이어가 아이템을 먹었을 때 실제 효과 적용 */
-    public void pickupAndApply(LiveDrop drop, GameRuntime rt) {
-        ItemEffectApplier.apply(drop.item, rt);
-        liveDrops.remove(drop);
+    /** 플레이어가 아이템을 먹었을 때 실제 효과 적용. 이미 사라진 드랍이면 false */
+    public boolean pickupAndApply(int handle, GameRuntime rt) {
+        int s = drops.slotOf(handle);
+        if (s < 0) return false;
+        ItemKind kind = drops.kind(s);
+        int duration = drops.durationSec(s);
+        drops.removeAt(s); // 효과 적용 중 새 드랍이 생겨도 칸 번호가 꼬이지 않게 먼저 지움
+        ItemEffectApplier.apply(kind, duration, rt);
+        return true;
     }
 
     /** 프레임 업데이트: 남은 수명(잔존 시간) 감소 */
     public void update(long deltaMs) {
-        for (int i = liveDrops.size() - 1; i >= 0; i--) {
-            LiveDrop d = liveDrops.get(i);
-            d.lifeMs -= deltaMs;
-            if (d.lifeMs <= 0) liveDrops.remove(i);
-        }
-    }
-
-    /** 현재 화면 위 드랍 아이템들 반환 (UI에서 그림 그릴 때 사용) */
-    public List<LiveDrop> getLiveDrops() {
-        return liveDrops;
+        drops.age(deltaMs);
     }
 
-    /** ------------ 내부 클래스: 하나의 드랍 아이템 ------------ */
-    public static final class LiveDrop {
-        public final Item item;   // 아이템 종류 데이터
-        public long lifeMs;       // 밀리초 단위 잔존 시간
-
-        public LiveDrop(Item item, long lifeMs) {
-            this.item = item;
-            this.lifeMs = lifeMs;
-        }
+    /** 현재 화면 위 드랍들 (UI에서 그림 그릴 때: for (int i = 0; i < d.size(); i++) d.kind(i), d.x(i) …) */
+    public DropStore getDrops() {
+        return drops;
     }
 }
@@ -1,5 +1,7 @@
 package com.balloon.items;
 
+import com.balloon.util.RngStream;
+
 import java.util.concurrent.ThreadLocalRandom;
 
 /** 아이템 효과(Effect) 선택 규칙과 DTO */
@@ -43,56 +45,53 @@ public final class ItemRules {
     /* ------------------ 1P 규칙 ------------------ */
 
     public static Effect pickFor1P(ColorKey color) {
-        switch (color) {
-            case RED:   return pick1PTime();
-            case BLUE:  return pick1PBalloon();
-            default:    return none();
-        }
+        return pick(ItemTable.Mode.P1, color, ThreadLocalRandom.current().nextLong());
     }
 
-    private static Effect pick1PTime() {
-        boolean plus = ThreadLocalRandom.current().nextBoolean();
-        return plus
-                ? new Effect(ItemKind.TIME_PLUS5,  Target.SELF, +5, 0, Keys.TIME_PLUS5)
-                : new Effect(ItemKind.TIME_MINUS5, Target.SELF, -5, 0, Keys.TIME_MINUS5);
-    }
-
-    private static Effect pick1PBalloon() {
-        boolean plus = ThreadLocalRandom.current().nextBoolean();
-        return plus
-                ? new Effect(ItemKind.BAL_MY_P3, Target.SELF, +3, 0, Keys.BAL_MY_P3)
-                : new Effect(ItemKind.BAL_MY_M3, Target.SELF, -3, 0, Keys.BAL_MY_M3);
+    /** 세션 난수 흐름으로(같은 시드 → 같은 결과) */
+    public static Effect pickFor1P(ColorKey color, RngStream rng) {
+        return pick(ItemTable.Mode.P1, color, rng.nextLong());
     }
 
     /* ------------------ 2P 규칙 ------------------ */
 
     public static Effect pickFor2P(ColorKey color) {
-        switch (color) {
-            case BLUE:  return pick2PBalloon();
-            case GREEN: return pick2PTrick();
-            default:    return none();
-        }
+        return pick(ItemTable.Mode.P2, color, ThreadLocalRandom.current().nextLong());
     }
 
-    private static Effect pick2PBalloon() {
-        // 0~3 : 내+3 / 내-3 / 상대+3 / 상대-3
-        switch (ThreadLocalRandom.current().nextInt(4)) {
-            case 0:  return new Effect(ItemKind.BAL_MY_P3,     Target.SELF,     +3, 0, Keys.BAL_MY_P3);
-            case 1:  return new Effect(ItemKind.BAL_MY_M3,     Target.SELF,     -3, 0, Keys.BAL_MY_M3);
-            case 2:  return new Effect(ItemKind.BAL_ENEMY_P3,  Target.OPPONENT, +3, 0, Keys.BAL_ENEMY_P3);
-            default: return new Effect(ItemKind.BAL_ENEMY_M3,  Target.OPPONENT, -3, 0, Keys.BAL_ENEMY_M3);
+    public static Effect pickFor2P(ColorKey color, RngStream rng) {
+        return pick(ItemTable.Mode.P2, color, rng.nextLong());
+    }
+
+    /* ------------------ 공통 ------------------ */
+
+    // 확률/지속시간은 아이템 정의표(items.csv)의 1P/2P 표, 대상/수치는 종류별 고정 규칙
+    private static Effect pick(ItemTable.Mode mode, ColorKey color, long bits) {
+        Item item = ItemTables.current().roll(mode, toKindColor(color), bits);
+        if (item == null) return none();
+        switch (item.kind) {
+            case TIME_PLUS5:   return new Effect(item.kind, Target.SELF,     +5, 0, Keys.TIME_PLUS5);
+            case TIME_MINUS5:  return new Effect(item.kind, Target.SELF,     -5, 0, Keys.TIME_MINUS5);
+            case BAL_MY_P3:    return new Effect(item.kind, Target.SELF,     +3, 0, Keys.BAL_MY_P3);
+            case BAL_MY_M3:    return new Effect(item.kind, Target.SELF,     -3, 0, Keys.BAL_MY_M3);
+            case BAL_ENEMY_P3: return new Effect(item.kind, Target.OPPONENT, +3, 0, Keys.BAL_ENEMY_P3);
+            case BAL_ENEMY_M3: return new Effect(item.kind, Target.OPPONENT, -3, 0, Keys.BAL_ENEMY_M3);
+            case BLIND:        return new Effect(item.kind, Target.OPPONENT, 0, item.durationSec, Keys.BLIND);
+            case REVERSE:      return new Effect(item.kind, Target.OPPONENT, 0, item.durationSec, Keys.REVERSE);
+            default:           return none();
         }
     }
 
-    private static Effect pick2PTrick() {
-        boolean blind = ThreadLocalRandom.current().nextBoolean();
-        int dur = 5; // 기본 5초
-        return blind
-                ? new Effect(ItemKind.BLIND,   Target.OPPONENT, 0, dur, Keys.BLIND)
-                : new Effect(ItemKind.REVERSE, Target.OPPONENT, 0, dur, Keys.REVERSE);
+    private static ItemKind.ColorKey toKindColor(ColorKey color) {
+        if (color == null) return null;
+        switch (color) {
+            case RED:   return ItemKind.ColorKey.RED;
+            case BLUE:  return ItemKind.ColorKey.BLUE;
+            case GREEN: return ItemKind.ColorKey.GREEN;
+            default:    return null;
+        }
     }
 
-    /* ------------------ 공통 ------------------ */
     private static Effect none() {
         return new Effect(ItemKind.NONE, Target.NONE, 0, 0, "NONE");
     }
@@ -1,77 +1,32 @@
 package com.balloon.items;
 
-import java.util.*;
+import com.balloon.util.RngStream;
+
 import java.util.concurrent.ThreadLocalRandom;
 
-/** 색 카테고리에서 확률로 아이템 1개를 뽑아주는 스포너 */
+/**
+ * 색 카테고리에서 확률로 아이템 1개를 뽑아주는 스포너
+ * - 후보/가중치/지속시간은 아이템 정의표(items.csv)의 DROP 표 → ItemTables가 컴파일해 둔 ItemTable에서 뽑는다.
+ *   뽑기는 O(1), 객체 생성 없음(Item은 불변이라 후보마다 미리 만들어 둔 것을 그대로 돌려준다).
+ * - 난수: roll(color, rng)는 세션 시드 흐름(RngStream)으로 → 같은 시드 + 같은 표면 같은 드랍(리플레이/시뮬레이션).
+ *   roll(color)는 예전처럼 ThreadLocalRandom.
+ */
 public final class ItemSpawner {
 
-    // 색 카테고리별 등장 후보 & 가중치
-    private static final Map<ItemKind.ColorKey, List<Entry>> TABLE =
-            new EnumMap<>(ItemKind.ColorKey.class);
-
-    static {
-        // RED = TIME (1P)
-        put(ItemKind.ColorKey.RED,
-                w(ItemKind.TIME_PLUS5, 70),
-                w(ItemKind.TIME_MINUS5, 30));
-
-        // BLUE = Balloon (1P & 2P)
-        put(ItemKind.ColorKey.BLUE,
-                w(ItemKind.BAL_MY_P3,    40),
-                w(ItemKind.BAL_MY_M3,    10),
-                w(ItemKind.BAL_ENEMY_P3, 30),
-                w(ItemKind.BAL_ENEMY_M3, 20));
-
-        // GREEN = Trick (2P, 지속효과)
-        put(ItemKind.ColorKey.GREEN,
-                w(ItemKind.BLIND,   55),
-                w(ItemKind.REVERSE, 45));
-    }
-
-    private static final int DEFAULT_TRICK_DURATION_SEC = 5; // BLIND/REVERSE 지속
-    private static final int DEFAULT_DROP_LIFE_SEC     = 6;  // 드랍 잔존시간
-
     private ItemSpawner() {}
 
+    /** ThreadLocalRandom으로 뽑기(재현 불필요한 곳) */
     public static Item roll(ItemKind.ColorKey colorKey) {
-        List<Entry> entries = TABLE.get(colorKey);
-        if (entries == null || entries.isEmpty()) return null;
-
-        int total = entries.stream().mapToInt(e -> e.weight).sum();
-        int r = ThreadLocalRandom.current().nextInt(total);
-        int acc = 0;
-        for (Entry e : entries) {
-            acc += e.weight;
-            if (r < acc) {
-
-                // 2P 트릭 아이템은 durationSec 포함
-                if (e.kind == ItemKind.BLIND || e.kind == ItemKind.REVERSE) {
-                    return new Item(e.kind, DEFAULT_TRICK_DURATION_SEC, DEFAULT_DROP_LIFE_SEC);
-                }
-
-                // TIME/BALLOON: lifeSec만
-                return new Item(e.kind, DEFAULT_DROP_LIFE_SEC);
-            }
-        }
-        return null; // unreachable
-    }
-
-    // ---------- 내부 유틸 ----------
-    private static void put(ItemKind.ColorKey k, Entry... list) {
-        TABLE.put(k, Arrays.asList(list));
+        return ItemTables.current().roll(ItemTable.Mode.DROP, colorKey, ThreadLocalRandom.current().nextLong());
     }
 
-    private static Entry w(ItemKind kind, int weight) {
-        return new Entry(kind, weight);
+    /** 세션 난수 흐름으로 뽑기(같은 시드 → 같은 결과) */
+    public static Item roll(ItemKind.ColorKey colorKey, RngStream rng) {
+        return ItemTables.current().roll(ItemTable.Mode.DROP, colorKey, rng.nextLong());
     }
 
-    private static final class Entry {
-        final ItemKind kind;
-        final int weight;
-        Entry(ItemKind kind, int weight) {
-            this.kind = kind;
-            this.weight = weight;
-        }
+    /** colorKey에서 kind가 나올 확률(0~1). 밸런스 점검용 */
+    public static double probability(ItemKind.ColorKey colorKey, ItemKind kind) {
+        return ItemTables.current().probability(ItemTable.Mode.DROP, colorKey, kind);
     }
 }
@@ -0,0 +1,181 @@
+package com.balloon.items;
+
+import com.balloon.util.AliasTable;
+import com.balloon.util.CsvReader;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ItemTable
+ * - 아이템 정의표(items.csv)를 컴파일한 불변 뽑기 표.
+ *     표(Mode) × 색(ItemKind.ColorKey)마다 AliasTable + 후보 Item 배열
+ *   → roll은 배열 두 번 + 별칭 표 한 번(O(1), 객체 생성 없음, 설정 읽기 없음).
+ * - 한 번 만들면 바뀌지 않는다. 설정이 바뀌면 ItemTables가 새 ItemTable을 만들어 참조만 바꿔 끼운다
+ *   → 뽑는 중인 쪽은 예전 표든 새 표든 "완성된 표" 하나만 본다.
+ * - 파일 형식(머리행 필수, '#'으로 시작하는 행은 주석):
+ *     table,color,kind,weight,durationSec,lifeSec
+ *     DROP,RED,TIME_PLUS5,70,0,6
+ */
+public final class ItemTable {
+
+    /** 어느 용도의 표인지(파일의 table 칸) */
+    public enum Mode {
+        DROP("DROP"), // ItemSpawner 드랍
+        P1("1P"),     // ItemRules.pickFor1P
+        P2("2P");     // ItemRules.pickFor2P
+
+        final String label;
+
+        Mode(String label) { this.label = label; }
+
+        static Mode of(String s) {
+            for (Mode m : values()) if (m.label.equalsIgnoreCase(s)) return m;
+            return null;
+        }
+    }
+
+    /** 빈 표(정의 파일을 하나도 못 읽었을 때): 모든 roll이 null */
+    public static final ItemTable EMPTY = new ItemTable(new Compiled[Mode.values().length][ItemKind.ColorKey.values().length], 0);
+
+    private static final String[] HEADER = {"table", "color", "kind", "weight", "durationSec", "lifeSec"};
+
+    private final Compiled[][] tables; // [mode][color]
+    private final int rows;
+
+    private ItemTable(Compiled[][] tables, int rows) {
+        this.tables = tables;
+        this.rows = rows;
+    }
+
+    /** 64비트 난수 하나로 아이템 하나. 표가 없는 색이면 null */
+    public Item roll(Mode mode, ItemKind.ColorKey color, long bits) {
+        if (color == null) return null;
+        Compiled c = tables[mode.ordinal()][color.ordinal()];
+        return (c == null) ? null : c.items[c.alias.sample(bits)];
+    }
+
+    /** mode/color 표에서 kind가 나올 확률(0~1) */
+    public double probability(Mode mode, ItemKind.ColorKey color, ItemKind kind) {
+        if (color == null) return 0.0;
+        Compiled c = tables[mode.ordinal()][color.ordinal()];
+        if (c == null) return 0.0;
+        long w = 0;
+        for (int i = 0; i < c.items.length; i++) if (c.items[i].kind == kind) w += c.weights[i];
+        return (double) w / c.total;
+    }
+
+    /** 정의 행 수 */
+    public int rows() { return rows; }
+
+    /**
+     * CSV를 읽어 컴파일. 잘못된 행이 하나라도 있으면 전체를 거부한다(일부만 바뀐 표를 쓰지 않도록).
+     * @param source 오류 메시지에 쓸 출처 이름
+     * @throws IllegalArgumentException 형식 오류(문제 행 번호 포함)
+     */
+    public static ItemTable parse(CsvReader r, String source) {
+        int modes = Mode.values().length, colors = ItemKind.ColorKey.values().length;
+        Map<Mode, Map<ItemKind.ColorKey, List<Row>>> grouped = new EnumMap<>(Mode.class);
+        for (Mode m : Mode.values()) grouped.put(m, new EnumMap<>(ItemKind.ColorKey.class));
+        List<String> errors = new ArrayList<>();
+        boolean header = false;
+        int rows = 0;
+
+        while (r.next()) {
+            String first = r.getString(0);
+            if (first.startsWith("#")) continue;
+            if (!header) {
+                for (int i = 0; i < HEADER.length; i++) {
+                    if (!HEADER[i].equalsIgnoreCase(r.getString(i))) {
+                        throw new IllegalArgumentException(source + ": header must be " + String.join(",", HEADER));
+                    }
+                }
+                header = true;
+                continue;
+            }
+
+            Mode mode = Mode.of(first);
+            ItemKind.ColorKey color = enumOf(ItemKind.ColorKey.class, r.getString(1));
+            ItemKind kind = enumOf(ItemKind.class, r.getString(2));
+            int weight = r.getInt(3);
+            int duration = r.getInt(4);
+            int life = r.getInt(5);
+            if (r.fieldCount() != HEADER.length) r.reject("expected " + HEADER.length + " fields");
+            if (mode == null) r.reject("unknown table: " + first);
+            if (color == null) r.reject("unknown color: " + r.getString(1));
+            if (kind == null || kind == ItemKind.NONE) r.reject("unknown kind: " + r.getString(2));
+            if (weight < 0 || duration < 0 || life < 0) r.reject("negative value");
+            if (r.error() != null) {
+                errors.add("line " + r.line() + ": " + r.error());
+                continue;
+            }
+
+            grouped.get(mode).computeIfAbsent(color, c -> new ArrayList<>()).add(new Row(kind, weight, duration, life));
+            rows++;
+        }
+        if (!header) throw new IllegalArgumentException(source + ": empty item table");
+
+        Compiled[][] tables = new Compiled[modes][colors];
+        for (Mode m : Mode.values()) {
+            for (ItemKind.ColorKey c : ItemKind.ColorKey.values()) {
+                List<Row> g = grouped.get(m).get(c);
+                if (g == null) continue;
+                long total = 0;
+                for (Row row : g) total += row.weight;
+                if (total == 0) {
+                    errors.add(m.label + "/" + c + ": all weights are zero");
+                    continue;
+                }
+                tables[m.ordinal()][c.ordinal()] = compile(g, total);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(source + ": " + String.join("; ", errors));
+        }
+        return new ItemTable(tables, rows);
+    }
+
+    // ---------- 내부 ----------
+
+    private static Compiled compile(List<Row> rows, long total) {
+        int[] weights = new int[rows.size()];
+        Item[] items = new Item[rows.size()];
+        for (int i = 0; i < items.length; i++) {
+            Row row = rows.get(i);
+            weights[i] = row.weight;
+            items[i] = new Item(row.kind, row.durationSec, row.lifeSec); // 불변이라 미리 만들어 그대로 돌려줌
+        }
+        return new Compiled(new AliasTable(weights), weights, total, items);
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, String name) {
+        for (E e : type.getEnumConstants()) if (e.name().equalsIgnoreCase(name)) return e;
+        return null;
+    }
+
+    private static final class Row {
+        final ItemKind kind;
+        final int weight, durationSec, lifeSec;
+        Row(ItemKind kind, int weight, int durationSec, int lifeSec) {
+            this.kind = kind;
+            this.weight = weight;
+            this.durationSec = durationSec;
+            this.lifeSec = lifeSec;
+        }
+    }
+
+    private static final class Compiled {
+        final AliasTable alias;
+        final int[] weights;
+        final long total;
+        final Item[] items; // alias 번호 → 아이템
+        Compiled(AliasTable alias, int[] weights, long total, Item[] items) {
+            this.alias = alias;
+            this.weights = weights;
+            this.total = total;
+            this.items = items;
+        }
+    }
+}
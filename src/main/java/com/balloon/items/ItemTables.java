@@ -0,0 +1,150 @@
+package com.balloon.items;
+
+import com.balloon.data.FilesConfig;
+import com.balloon.util.CsvReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * ItemTables
+ * - 지금 쓰는 아이템 표(ItemTable) 하나를 들고 있는 곳.
+ *     기본값: 클래스패스 리소스 /data/items.csv
+ *     덮어쓰기: 실행 폴더의 data/items.csv(FilesConfig.ITEMS_CSV)가 있으면 그쪽
+ * - current()는 volatile 참조 하나를 읽을 뿐 → 뽑기 경로에서 파일/락을 건드리지 않는다.
+ * - startWatching() 뒤에는 덮어쓰기 파일의 수정 시각/크기를 POLL_MS마다 확인해 바뀌면 다시 컴파일하고
+ *   참조를 통째로 교체한다(반쯤 바뀐 표는 없음). 새 파일이 잘못됐으면 로그만 남기고 예전 표를 계속 쓴다.
+ */
+public final class ItemTables {
+
+    private static final String RESOURCE = "/data/items.csv";
+    private static final long POLL_MS = 1000;
+
+    private static volatile ItemTable current;
+    private static volatile Thread watcher;
+
+    // 덮어쓰기 파일의 마지막으로 본 상태(감시 스레드/reload에서만)
+    private static long seenModified = Long.MIN_VALUE;
+    private static long seenSize = -1;
+
+    private ItemTables() {}
+
+    /** 지금 표(처음 부르면 한 번 읽음) */
+    public static ItemTable current() {
+        ItemTable t = current;
+        if (t == null) {
+            synchronized (ItemTables.class) {
+                t = current;
+                if (t == null) {
+                    t = load();
+                    current = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    /** 파일을 지금 다시 읽음. 실패하면 false(예전 표 유지) */
+    public static synchronized boolean reload() {
+        Path file = overridePath();
+        try {
+            ItemTable t = Files.exists(file) ? readFile(file) : readResource();
+            current = t;
+            System.out.println("[ItemTables] loaded " + t.rows() + " rows from "
+                    + (Files.exists(file) ? file : RESOURCE));
+            return true;
+        } catch (IOException | IllegalArgumentException ex) {
+            System.err.println("[ItemTables] reload failed, keeping previous table: " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /** 덮어쓰기 파일 감시 시작(이미 돌고 있으면 무시). 데몬 스레드 */
+    public static synchronized void startWatching() {
+        if (watcher != null) return;
+        current(); // 첫 읽기 + 파일 상태 기록
+        Thread t = new Thread(ItemTables::watch, "item-table-watch");
+        t.setDaemon(true);
+        watcher = t;
+        t.start();
+    }
+
+    public static synchronized void stopWatching() {
+        Thread t = watcher;
+        watcher = null;
+        if (t != null) t.interrupt();
+    }
+
+    // ---------- 내부 ----------
+
+    private static void watch() {
+        while (watcher == Thread.currentThread()) {
+            try {
+                Thread.sleep(POLL_MS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            synchronized (ItemTables.class) {
+                if (changed()) reload();
+            }
+        }
+    }
+
+    /** 덮어쓰기 파일이 생기거나/바뀌거나/없어졌는지(상태도 갱신) */
+    private static boolean changed() {
+        Path file = overridePath();
+        long modified = Long.MIN_VALUE, size = -1;
+        try {
+            if (Files.exists(file)) {
+                modified = Files.getLastModifiedTime(file).toMillis();
+                size = Files.size(file);
+            }
+        } catch (IOException ex) {
+            return false; // 쓰는 중 등: 다음 확인 때 다시
+        }
+        if (modified == seenModified && size == seenSize) return false;
+        seenModified = modified;
+        seenSize = size;
+        return true;
+    }
+
+    /** 첫 읽기: 덮어쓰기 → 리소스 → 빈 표 순서로 */
+    private static ItemTable load() {
+        changed();
+        Path file = overridePath();
+        if (Files.exists(file)) {
+            try {
+                return readFile(file);
+            } catch (IOException | IllegalArgumentException ex) {
+                System.err.println("[ItemTables] " + ex.getMessage() + " → using built-in table");
+            }
+        }
+        try {
+            return readResource();
+        } catch (IOException | IllegalArgumentException ex) {
+            System.err.println("[ItemTables] built-in table unavailable: " + ex.getMessage());
+            ex.printStackTrace();
+            return ItemTable.EMPTY;
+        }
+    }
+
+    private static Path overridePath() {
+        return Paths.get(FilesConfig.ITEMS_CSV);
+    }
+
+    private static ItemTable readFile(Path file) throws IOException {
+        // mmap하지 않고 통째로 읽는다(편집기가 덮어쓰는 중인 파일을 매핑해 두지 않도록)
+        return ItemTable.parse(new CsvReader(ByteBuffer.wrap(Files.readAllBytes(file))), file.toString());
+    }
+
+    private static ItemTable readResource() throws IOException {
+        try (InputStream in = ItemTables.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) throw new IOException("resource not found: " + RESOURCE);
+            return ItemTable.parse(new CsvReader(ByteBuffer.wrap(in.readAllBytes())), RESOURCE);
+        }
+    }
+}
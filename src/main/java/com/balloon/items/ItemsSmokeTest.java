@@ -1,5 +1,7 @@
 package com.balloon.items;
 
+import com.balloon.util.RngStream;
+
 public class ItemsSmokeTest {
     public static void main(String[] args) {
 
@@ -23,5 +25,31 @@ public class ItemsSmokeTest {
             System.out.println("GREEN → " + item.kind +
                     " (life=" + item.lifeSec + ", dur=" + item.durationSec + ")");
         }
+
+        System.out.println("\n=== 같은 시드 → 같은 드랍(리플레이) ===");
+        long seed = 20241118L;
+        RngStream a = new RngStream(seed), b = new RngStream(seed);
+        boolean same = true;
+        for (int i = 0; i < 10_000; i++) {
+            ItemKind.ColorKey c = ItemKind.ColorKey.values()[i % 3];
+            if (ItemSpawner.roll(c, a).kind != ItemSpawner.roll(c, b).kind) { same = false; break; }
+        }
+        System.out.println("seed=" + seed + " → " + (same ? "OK" : "MISMATCH"));
+
+        System.out.println("\n=== 분포 점검(색마다 100만 번) ===");
+        RngStream rng = new RngStream(seed);
+        int n = 1_000_000;
+        for (ItemKind.ColorKey c : ItemKind.ColorKey.values()) {
+            int[] hits = new int[ItemKind.values().length];
+            long t0 = System.nanoTime();
+            for (int i = 0; i < n; i++) hits[ItemSpawner.roll(c, rng).kind.ordinal()]++;
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            System.out.println(c + " (" + ms + " ms)");
+            for (ItemKind k : ItemKind.values()) {
+                double want = ItemSpawner.probability(c, k);
+                if (want == 0 && hits[k.ordinal()] == 0) continue;
+                System.out.printf("  %-13s 기대 %5.2f%%  실제 %5.2f%%%n", k, want * 100, hits[k.ordinal()] * 100.0 / n);
+            }
+        }
     }
 }
@@ -0,0 +1,171 @@
+package com.balloon.ranking;
+
+import com.balloon.util.CsvReader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * CsvImportBench
+ * - 랭킹 CSV 파서 비교용 수동 벤치마크(ItemsSmokeTest처럼 main으로 실행).
+ *     java com.balloon.ranking.CsvImportBench [행 수=1000000] [반복=5]
+ * - 비교 대상
+ *     split-regex : 예전 RankingCsvRepository (split("\\s*,\\s*") + safeInt/safeDouble)
+ *     split-plain : 예전 RankingCSV.readAllSorted (split(",", -1) + parse*)
+ *     CsvReader   : mmap + 바이트에서 바로 숫자 파싱
+ * - 앞의 두 번은 워밍업, 나머지의 평균 시간과 스레드 할당량(지원되는 JVM에서)을 출력한다.
+ * - 세 파서 모두 다섯 필드를 다 읽고, 읽은 값 전부를 체크섬에 섞는다(mix)
+ *   → JIT가 안 쓰는 필드 파싱을 지우지 못하고, 세 체크섬이 같은지로 결과가 같은지 확인한다.
+ */
+public class CsvImportBench {
+
+    interface Parser {
+        long parse(Path file) throws IOException; // 체크섬(결과 검증 + 죽은 코드 제거 방지)
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        int iters = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+
+        Path file = Files.createTempFile("ranking-bench", ".csv");
+        try {
+            generate(file, rows);
+            System.out.printf("=== %,d rows, %,d bytes ===%n", rows, Files.size(file));
+            run("split-regex", CsvImportBench::splitRegex, file, rows, iters);
+            run("split-plain", CsvImportBench::splitPlain, file, rows, iters);
+            run("CsvReader  ", CsvImportBench::csvReader, file, rows, iters);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** 예전 데이터 모양(name,score,accuracy,timeLeft,playedAt). 이름은 전부 쉼표 없는 것으로 → 세 파서 결과가 같다(따옴표는 unquote로) */
+    private static void generate(Path file, int rows) throws IOException {
+        Random rnd = new Random(42);
+        String[] names = {"jay", "momo", "suyeon", "rina", "민수", "지은", "player_x", "\"quoted\""};
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("name,score,accuracy,timeLeft,playedAt\n");
+            for (int i = 0; i < rows; i++) {
+                String n = names[rnd.nextInt(names.length)];
+                if (n.startsWith("\"")) n = "\"say \"\"hi\"\"\""; // 따옴표 이스케이프 섞기
+                w.write(n);
+                w.write(',');
+                w.write(Integer.toString(rnd.nextInt(5000)));
+                w.write(',');
+                w.write(Double.toString(Math.round(rnd.nextDouble() * 1000) / 10.0));
+                w.write(',');
+                w.write(Integer.toString(rnd.nextInt(60)));
+                w.write(",2025-11-0");
+                w.write(Integer.toString(1 + rnd.nextInt(9)));
+                w.write(" 12:34:56\n");
+            }
+        }
+    }
+
+    private static void run(String label, Parser p, Path file, int rows, int iters) throws IOException {
+        long sum = 0;
+        for (int i = 0; i < 2; i++) sum = p.parse(file); // 워밍업
+        long nanos = 0, bytes = 0;
+        for (int i = 0; i < iters; i++) {
+            long a0 = allocatedBytes();
+            long t0 = System.nanoTime();
+            sum = p.parse(file);
+            nanos += System.nanoTime() - t0;
+            bytes += allocatedBytes() - a0;
+        }
+        double ms = nanos / 1e6 / iters;
+        System.out.printf("%s : %8.1f ms/pass  %6.1f M rows/s  %8.1f MB alloc/pass  (checksum %016x)%n",
+                label, ms, rows / ms / 1000.0, bytes / 1e6 / iters, sum);
+    }
+
+    /** 현재 스레드가 지금까지 할당한 바이트(HotSpot 전용, 없으면 0) */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (mx instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) mx).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    // ---------- 비교 대상 ----------
+
+    private static long splitRegex(Path file) throws IOException {
+        long sum = 0;
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            br.readLine();
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) continue;
+                String[] t = line.split("\\s*,\\s*");
+                if (t.length < 5) continue;
+                String name = unquote(t[0].trim());
+                int score = safeInt(t[1]);
+                double acc = safeDouble(t[2]);
+                int tl = safeInt(t[3]);
+                String at = t[4].trim();
+                sum = mix(sum, name, score, acc, tl, at);
+            }
+        }
+        return sum;
+    }
+
+    private static long splitPlain(Path file) throws IOException {
+        long sum = 0;
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("name,")) continue;
+                String[] a = line.split(",", -1);
+                if (a.length < 5) continue;
+                String name = unquote(a[0]);
+                int score = safeInt(a[1]);
+                double acc = safeDouble(a[2]);
+                int tl = safeInt(a[3]);
+                sum = mix(sum, name, score, acc, tl, a[4]);
+            }
+        }
+        return sum;
+    }
+
+    private static long csvReader(Path file) throws IOException {
+        long sum = 0;
+        CsvReader r = CsvReader.open(file);
+        while (r.next()) {
+            if (r.line() == 1) continue;
+            String name = r.getString(0);
+            int score = r.getInt(1);
+            double acc = r.getDouble(2);
+            int tl = r.getInt(3);
+            String at = r.getString(4);
+            if (r.error() != null) continue;
+            sum = mix(sum, name, score, acc, tl, at);
+        }
+        return sum;
+    }
+
+    /** 행 하나의 모든 값을 순서까지 반영해 섞음(세 파서가 같은 값을 같은 순서로 읽었으면 같은 결과) */
+    private static long mix(long sum, String name, int score, double acc, int tl, String at) {
+        long h = name.hashCode() ^ ((long) score << 32) ^ Double.hashCode(acc) ^ ((long) tl << 16) ^ at.hashCode();
+        return sum * 31 + h;
+    }
+
+    /** "..." 로 감싼 필드면 따옴표를 벗기고 "" → " (split 경로가 CsvReader와 같은 이름을 얻도록) */
+    private static String unquote(String s) {
+        if (s.length() < 2 || s.charAt(0) != '"' || s.charAt(s.length() - 1) != '"') return s;
+        return s.substring(1, s.length() - 1).replace("\"\"", "\"");
+    }
+
+    private static int safeInt(String s) {
+        try { return Integer.parseInt(s.trim()); } catch (Exception e) { return 0; }
+    }
+
+    private static double safeDouble(String s) {
+        try { return Double.parseDouble(s.trim()); } catch (Exception e) { return 0.0; }
+    }
+}
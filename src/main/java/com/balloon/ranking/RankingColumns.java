@@ -0,0 +1,141 @@
+package com.balloon.ranking;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RankingColumns
+ * - 랭킹 기록 여러 개를 "열 단위 기본형 배열"로 들고 있는 압축 표현.
+ *     이름      : int[] (Names 사전의 번호 — 같은 이름은 String 하나만 유지)
+ *     점수      : int[]
+ *     정확도    : float[]
+ *     남은시간  : int[]
+ *     저장 시각 : long[] (표시 문자열은 실제로 보여줄 때만 만들고 그 행에만 보관)
+ *   → 행당 약 24바이트 + 처음 본 이름만큼. RankingRecord(객체 + String 2개) 리스트의 1/4 미만.
+ * - 행 객체는 필요한 쪽이 record(i)로 그때그때 만든다(JTable 모델은 열 배열에서 바로 읽음).
+ * - 스레드 안전하지 않음: 만든 스레드에서 채우고, 다 채운 뒤 EDT로 넘겨 읽기만 한다.
+ */
+public final class RankingColumns {
+
+    /** 이름 사전: 문자열 ↔ 번호. 여러 RankingColumns(페이지)가 하나를 같이 쓸 수 있다 */
+    public static final class Names {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private String[] names = new String[64];
+
+        /** 같은 내용이면 같은 번호(처음 보면 새로 등록) */
+        public int idOf(String name) {
+            String n = (name == null) ? "" : name;
+            Integer id = ids.get(n);
+            if (id != null) return id;
+            int next = ids.size();
+            if (next == names.length) names = Arrays.copyOf(names, next * 2);
+            names[next] = n;
+            ids.put(n, next);
+            return next;
+        }
+
+        public String nameOf(int id) { return names[id]; }
+
+        public int size() { return ids.size(); }
+    }
+
+    // 표시용 시각 형식(RankingCsvRepository와 같은 모양)
+    private static final DateTimeFormatter PLAYED_AT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final Names names;
+    private int size = 0;
+    private int[] nameId;
+    private int[] score;
+    private float[] accuracy;
+    private int[] timeLeft;
+    private long[] epochMillis;
+    private String[] playedAt; // 지연 생성(표시한 행만)
+
+    public RankingColumns(int capacity) {
+        this(new Names(), capacity);
+    }
+
+    public RankingColumns(Names names, int capacity) {
+        int c = Math.max(1, capacity);
+        this.names = names;
+        nameId = new int[c];
+        score = new int[c];
+        accuracy = new float[c];
+        timeLeft = new int[c];
+        epochMillis = new long[c];
+    }
+
+    /** 행 하나 추가(배열이 차면 1.5배로 늘림) */
+    public void add(String name, int score, double accuracy, int timeLeft, long epochMillis) {
+        if (size == this.score.length) grow();
+        this.nameId[size] = names.idOf(name);
+        this.score[size] = score;
+        this.accuracy[size] = (float) accuracy;
+        this.timeLeft[size] = timeLeft;
+        this.epochMillis[size] = epochMillis;
+        size++;
+    }
+
+    /** 빈 행(읽을 수 없는 기록 자리). 이름 "", 숫자 0 */
+    public void addEmpty() {
+        add("", 0, 0.0, 0, 0L);
+    }
+
+    public int size() { return size; }
+
+    public Names names() { return names; }
+
+    public String name(int i) { return names.nameOf(nameId[i]); }
+
+    public int nameId(int i) { return nameId[i]; }
+
+    public int score(int i) { return score[i]; }
+
+    public float accuracy(int i) { return accuracy[i]; }
+
+    public int timeLeft(int i) { return timeLeft[i]; }
+
+    public long epochMillis(int i) { return epochMillis[i]; }
+
+    /** 표시용 시각 문자열(처음 요청할 때 만들어 그 행에 보관) */
+    public String playedAt(int i) {
+        if (playedAt == null) playedAt = new String[score.length];
+        String s = playedAt[i];
+        if (s == null) {
+            long t = epochMillis[i];
+            s = (t > 0) ? PLAYED_AT.format(Instant.ofEpochMilli(t)) : "-";
+            playedAt[i] = s;
+        }
+        return s;
+    }
+
+    /** i번째 행을 RankingRecord로(필요할 때만 만드는 행 객체) */
+    public RankingRecord record(int i) {
+        return new RankingRecord(name(i), score[i], widen(accuracy[i]), timeLeft[i], playedAt(i));
+    }
+
+    /** i번째 행을 RankingEntry로 */
+    public RankingEntry entry(int i) {
+        return new RankingEntry(name(i), score[i], widen(accuracy[i]), timeLeft[i], epochMillis[i]);
+    }
+
+    /** float → double을 "보이는 값" 그대로(93.3f → 93.3, 93.30000305… 아님) */
+    private static double widen(float f) {
+        return Double.parseDouble(Float.toString(f));
+    }
+
+    private void grow() {
+        int c = score.length + (score.length >> 1) + 1;
+        nameId = Arrays.copyOf(nameId, c);
+        score = Arrays.copyOf(score, c);
+        accuracy = Arrays.copyOf(accuracy, c);
+        timeLeft = Arrays.copyOf(timeLeft, c);
+        epochMillis = Arrays.copyOf(epochMillis, c);
+        if (playedAt != null) playedAt = Arrays.copyOf(playedAt, c);
+    }
+}
@@ -0,0 +1,93 @@
+package com.balloon.ranking;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RankingRowSorter
+ * - 헤더 클릭/정렬 화살표 표시는 Swing 방식 그대로 쓰되, 실제 정렬은 저장소 순열로 하는 RowSorter.
+ * - 행을 직접 재배열하지 않는다(뷰 행 = 모델 행). 정렬 키가 바뀌면 모델의 sortBy()를 부르고,
+ *   모델이 새 순열로 fireTableDataChanged 한다 → 정렬 비용이 전체 행 수와 무관.
+ * - 한 번에 한 컬럼만 정렬(같은 컬럼을 다시 누르면 오름/내림 전환).
+ */
+public class RankingRowSorter extends RowSorter<RankingTableModel> {
+
+    private final RankingTableModel model;
+    private List<SortKey> keys = Collections.emptyList();
+
+    public RankingRowSorter(RankingTableModel model) {
+        this.model = model;
+    }
+
+    @Override
+    public RankingTableModel getModel() {
+        return model;
+    }
+
+    @Override
+    public void toggleSortOrder(int column) {
+        SortOrder next = SortOrder.ASCENDING;
+        if (!keys.isEmpty() && keys.get(0).getColumn() == column
+                && keys.get(0).getSortOrder() == SortOrder.ASCENDING) {
+            next = SortOrder.DESCENDING;
+        }
+        setSortKeys(List.of(new SortKey(column, next)));
+    }
+
+    @Override
+    public void setSortKeys(List<? extends SortKey> sortKeys) {
+        List<SortKey> k = (sortKeys == null || sortKeys.isEmpty())
+                ? Collections.emptyList()
+                : List.of(sortKeys.get(0)); // 첫 키만 사용
+        if (k.equals(keys)) return;
+        keys = k;
+        if (k.isEmpty()) {
+            model.sortBy(RankingTableModel.sortForColumn(0), false); // 정렬 해제 = 랭킹 순
+        } else {
+            SortKey s = k.get(0);
+            model.sortBy(RankingTableModel.sortForColumn(s.getColumn()), s.getSortOrder() == SortOrder.DESCENDING);
+        }
+        fireSortOrderChanged(); // 헤더 화살표 갱신
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return keys;
+    }
+
+    @Override
+    public int convertRowIndexToModel(int index) {
+        checkRow(index);
+        return index;
+    }
+
+    @Override
+    public int convertRowIndexToView(int index) {
+        checkRow(index);
+        return index;
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return model.getRowCount();
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    // 행 순서는 모델이 관리하므로 모델 변경 알림에서 할 일이 없다
+    @Override public void modelStructureChanged() {}
+    @Override public void allRowsChanged() {}
+    @Override public void rowsInserted(int firstRow, int endRow) {}
+    @Override public void rowsDeleted(int firstRow, int endRow) {}
+    @Override public void rowsUpdated(int firstRow, int endRow) {}
+    @Override public void rowsUpdated(int firstRow, int endRow, int column) {}
+
+    private void checkRow(int index) {
+        if (index < 0 || index >= model.getRowCount()) throw new IndexOutOfBoundsException("row " + index);
+    }
+}
@@ -1,18 +1,56 @@
 package com.balloon.ranking;
 
+import com.balloon.data.BinaryRankingRepository;
+import com.balloon.data.RankingSort;
+
+import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * RankingTableModel
  * - JTable에 데이터를 공급하는 모델 클래스
  * - "어떤 컬럼 이름/타입을 가질지"와 "행/열의 실제 값"을 정의한다.
+ * - 전체 기록을 들고 있지 않는 페이지 방식 모델:
+ *     행 순서 = 저장소가 미리 만들어 둔 정렬 순열(BinaryRankingRepository.order)
+ *     셀 값   = 보이는 페이지(+ 바로 다음 페이지)만 저장소에서 RankingColumns(열 배열)로 읽어 LRU로 보관
+ *               (행 객체 없음, 이름은 페이지끼리 사전 하나를 공유)
+ *   → 기록이 몇십만 개여도 스크롤/헤더 클릭 비용은 화면에 보이는 행 수에만 비례한다.
+ * - 정렬은 Swing RowSorter가 아니라 저장소 순열 교체로 한다(RankingRowSorter가 헤더 클릭을 sortBy로 넘김).
+ * - 순열 계산(처음 한 번/새 기록 병합)은 백그라운드 스레드에서, 반영은 EDT에서.
+ * - 보고 있는 동안 새 기록이 붙으면(recordsAppended) 순열에 병합하고 들어간 자리마다 fireTableRowsInserted
+ *   → 스크롤 위치/선택이 유지되고 바뀐 페이지만 다시 읽는다.
  */
 public class RankingTableModel extends AbstractTableModel {
 
+    static final int PAGE_SIZE = 128;   // 한 번에 디코딩하는 행 수
+    private static final int MAX_PAGES = 32; // 메모리에 남겨 두는 페이지 수(≈ 4천 행)
+    private static final int MAX_INSERT_EVENTS = 64; // 한 번에 이보다 많이 붙으면 전체 갱신 한 번으로
+
+    // 순열 계산 전용 스레드(하나면 충분: 요청이 몰려도 캐시 덕에 두 번째부터는 즉시)
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ranking-order");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 미리 계산(warmUp) 전용 낮은 우선순위 스레드 — LOADER 큐를 차지하지 않아 헤더 클릭/병합이 기다리지 않음
+    private static final ExecutorService WARMER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ranking-warmup");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+    private static final AtomicBoolean WARMING = new AtomicBoolean(false); // WARMER에 일이 남아 있음
+
     // 테이블 컬럼 헤더 텍스트 (표 상단 제목들)
     private final String[] columns = {
-            "순위",        // 0: 화면용 순위(데이터에 없음 → rowIndex+1로 계산)
+            "순위",        // 0: 랭킹 순위(점수↓ 정확도↓ 남은시간↓ 최신↑ 기준, 다른 정렬에서도 유지)
             "이름",        // 1
             "점수",        // 2
             "정확도(%)",   // 3
@@ -20,25 +58,172 @@ public class RankingTableModel extends AbstractTableModel {
             "플레이시각"   // 5
     };
 
-    // 실제 데이터 소스: CSV -> List<RankingRecord>
-    private List<RankingRecord> data;
+    // 컬럼 → 저장소 정렬 기준
+    private static final RankingSort[] SORT_OF_COLUMN = {
+            RankingSort.RANK, RankingSort.NAME, RankingSort.SCORE,
+            RankingSort.ACCURACY, RankingSort.TIME_LEFT, RankingSort.PLAYED_AT
+    };
+
+    private final BinaryRankingRepository store;
+
+    // 현재 보이는 순서(EDT에서만 바꿈)
+    private RankingSort sort = RankingSort.RANK;
+    private boolean descending = false;
+    private int[] order = new int[0]; // 레코드 번호 순열(오름차순)
+    private int[] ranks = new int[0]; // ranks[레코드 번호] = 순위 - 1
+    private int sortSeq = 0;          // 늦게 도착한 옛 정렬 결과는 버림
+    private int appliedSortSeq = 0;   // 마지막으로 끝난 정렬 요청(sortSeq와 다르면 정렬 계산 중)
+    private int insertSeq = 0;        // 병합 결과끼리의 순서(정렬 요청과는 따로 셈)
+    private boolean mergeAfterSort = false; // 정렬 계산 중에 새 기록이 붙음 → 정렬 반영 뒤 병합
+
+    // 페이지 번호 → 행들(접근 순 LRU)
+    private final Map<Integer, RankingColumns> pages = new LinkedHashMap<>(MAX_PAGES * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, RankingColumns> eldest) {
+            return size() > MAX_PAGES;
+        }
+    };
+    private RankingColumns.Names names = new RankingColumns.Names(); // 페이지들이 같이 쓰는 이름 사전
+
+    public RankingTableModel() {
+        this(BinaryRankingRepository.getInstance());
+    }
+
+    public RankingTableModel(BinaryRankingRepository store) {
+        this.store = store;
+    }
+
+    /** 컬럼 번호 → 정렬 기준 */
+    public static RankingSort sortForColumn(int column) {
+        return SORT_OF_COLUMN[column];
+    }
+
+    public RankingSort getSort() { return sort; }
+
+    public boolean isDescending() { return descending; }
+
+    /** 저장소 최신 상태로 다시 읽기(EDT). 새 기록은 기존 순열에 병합된다 */
+    public void reload() {
+        sortBy(sort, descending);
+    }
 
-    // 생성자: 외부에서 읽어온 리스트를 초기값으로 전달받는다.
-    public RankingTableModel(List<RankingRecord> data) {
-        this.data = data;
+    /**
+     * 정렬 기준 변경(EDT).
+     * 순열이 이미 캐시돼 있으면 곧바로 교체되고, 처음 쓰는 기준이면 계산이 끝난 뒤 교체된다.
+     */
+    public void sortBy(RankingSort key, boolean desc) {
+        int seq = ++sortSeq;
+        CompletableFuture
+                .supplyAsync(() -> new int[][]{store.order(key), store.ranks()}, LOADER)
+                .whenComplete((r, err) -> SwingUtilities.invokeLater(() -> {
+                    if (seq != sortSeq) return; // 그 사이 다른 정렬을 눌렀음
+                    appliedSortSeq = seq;
+                    if (err != null) {
+                        System.err.println("[RankingTableModel] order failed: " + err);
+                        mergeAfterSort = false;
+                        return;
+                    }
+                    apply(key, desc, r[0], r[1]);
+                    warmUp();
+                    if (mergeAfterSort) { // 이 정렬보다 늦게 붙은 기록이 있을 수 있음(이미 들어 있으면 병합은 할 일 없음)
+                        mergeAfterSort = false;
+                        merge();
+                    }
+                }));
     }
 
-    // 데이터 통째로 교체할 때 사용 (UI 새로고침 포함)
-    public void setData(List<RankingRecord> data) {
-        this.data = data;
+    /**
+     * 로그에 새 기록 [from, to)가 붙음(EDT). 현재 정렬 순열에 병합하고,
+     * 새 행이 들어간 위치마다 행 삽입 이벤트를 보낸다(너무 많으면 전체 갱신).
+     * 정렬을 계산하는 중이면 그 정렬을 취소하지 않고, 정렬이 반영된 뒤에 병합한다.
+     */
+    public void recordsAppended(int from, int to) {
+        if (to <= from) return;
+        if (appliedSortSeq != sortSeq) {
+            mergeAfterSort = true;
+            return;
+        }
+        merge();
+    }
+
+    /** 현재 정렬 기준의 최신 순열을 받아 새 행만 삽입 */
+    private void merge() {
+        int seq = ++insertSeq;
+        int sortAt = sortSeq;
+        RankingSort key = sort;
+        CompletableFuture
+                .supplyAsync(() -> new int[][]{store.order(key), store.ranks()}, LOADER)
+                .whenComplete((r, err) -> SwingUtilities.invokeLater(() -> {
+                    if (err != null) {
+                        System.err.println("[RankingTableModel] order failed: " + err);
+                        return;
+                    }
+                    // 그 사이 정렬을 눌렀으면 그쪽이 나중에 계산되므로 새 기록도 들어 있음,
+                    // 더 늦은 병합이 있으면 그쪽 순열이 이 결과를 포함함
+                    if (sortAt != sortSeq || seq != insertSeq) return;
+                    insert(r[0], r[1]);
+                }));
+    }
+
+    private void insert(int[] newOrder, int[] newRanks) {
+        int oldLen = order.length;
+        int added = newOrder.length - oldLen;
+        if (added == 0) return; // 정렬 결과에 이미 들어 있었음
+        if (added < 0 || added > MAX_INSERT_EVENTS) {
+            apply(sort, descending, newOrder, newRanks);
+            return;
+        }
+        // 새 기록 = 기존 순열에 없던 번호(로그는 덧붙기만 하므로 oldLen 이상)
+        int[] rows = new int[added];
+        int k = 0;
+        for (int i = 0; i < newOrder.length && k < added; i++) {
+            if (newOrder[i] >= oldLen) rows[k++] = descending ? newOrder.length - 1 - i : i;
+        }
+        if (descending) { // 화면 행 오름차순으로
+            for (int i = 0, j = added - 1; i < j; i++, j--) { int t = rows[i]; rows[i] = rows[j]; rows[j] = t; }
+        }
+
+        order = newOrder;
+        ranks = newRanks;
+        int firstPage = rows[0] / PAGE_SIZE; // 그 앞 페이지는 내용이 그대로
+        pages.keySet().removeIf(p -> p >= firstPage);
+        for (int row : rows) fireTableRowsInserted(row, row); // 앞에서부터: 각 위치는 앞선 삽입이 반영된 뒤 기준
+    }
+
+    private void apply(RankingSort key, boolean desc, int[] newOrder, int[] newRanks) {
+        sort = key;
+        descending = desc;
+        order = newOrder;
+        ranks = newRanks;
+        pages.clear();
+        names = new RankingColumns.Names();
         // 모델이 바뀌었음을 JTable에 알린다 → 화면 리프레시
         fireTableDataChanged();
     }
 
-    // 행 개수: 데이터 리스트 크기
+    /**
+     * 나머지 기준 순열도 미리 계산(헤더 클릭이 계산을 기다리지 않도록).
+     * WARMER에서 돌고, 앞선 미리 계산이 아직 남아 있으면 새로 쌓지 않는다.
+     * 그 사이 헤더를 누르면 LOADER가 바로 계산한다(같은 기준이 겹치면 먼저 끝난 쪽이 캐시에 남음).
+     */
+    private void warmUp() {
+        if (!WARMING.compareAndSet(false, true)) return;
+        RankingSort current = sort;
+        WARMER.execute(() -> {
+            try {
+                for (RankingSort k : RankingSort.values()) {
+                    if (k != current) store.order(k);
+                }
+            } finally {
+                WARMING.set(false);
+            }
+        });
+    }
+
+    // 행 개수: 순열 길이(실제 데이터는 필요할 때 페이지 단위로)
     @Override
     public int getRowCount() {
-        return (data == null) ? 0 : data.size();
+        return order.length;
     }
 
     // 열 개수: columns 배열 길이
@@ -53,14 +238,14 @@ public class RankingTableModel extends AbstractTableModel {
         return columns[column];
     }
 
-    // 각 컬럼의 "자료형"을 JTable에 알려준다 (정렬/렌더링 힌트)
+    // 각 컬럼의 "자료형"을 JTable에 알려준다 (렌더링 힌트)
     @Override
     public Class<?> getColumnClass(int columnIndex) {
         return switch (columnIndex) {
-            case 0 -> Integer.class; // 순위(계산치)
+            case 0 -> Integer.class; // 순위
             case 1 -> String.class;  // 이름
             case 2 -> Integer.class; // 점수
-            case 3 -> Double.class;  // 정확도
+            case 3 -> Float.class;   // 정확도
             case 4 -> Integer.class; // 남은시간
             case 5 -> String.class;  // 플레이시각(문자열)
             default -> Object.class;
@@ -70,24 +255,56 @@ public class RankingTableModel extends AbstractTableModel {
     // (row, col)에 해당하는 셀 값 반환
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
-        // 방어코드: 데이터가 없으면 null
-        if (data == null || rowIndex < 0 || rowIndex >= data.size()) return null;
-
-        RankingRecord r = data.get(rowIndex);
+        if (rowIndex < 0 || rowIndex >= order.length) return null;
+        if (columnIndex == 0) {
+            int rec = order[slot(rowIndex)];
+            return (rec < ranks.length) ? ranks[rec] + 1 : null; // 순위는 아직 병합 전이면 비워 둠
+        }
+        RankingColumns page = page(rowIndex / PAGE_SIZE);
+        int k = rowIndex % PAGE_SIZE;
 
         return switch (columnIndex) {
-            case 0 -> rowIndex + 1;        // 순위는 데이터가 아니라 "현재 정렬 후의 행번호 + 1"
-            case 1 -> r.getName();
-            case 2 -> r.getScore();
-            case 3 -> r.getAccuracy();
-            case 4 -> r.getTimeLeft();
-            case 5 -> r.getPlayedAt();
+            case 1 -> page.name(k);
+            case 2 -> page.score(k);
+            case 3 -> page.accuracy(k);
+            case 4 -> page.timeLeft(k);
+            case 5 -> page.playedAt(k);
             default -> null;
         };
     }
 
-    // (옵션) 외부에서 특정 행의 원본 객체를 가져오고 싶을 때 사용
+    // 특정 행을 객체로(프로필 등 행 하나가 필요할 때만 만듦)
     public RankingRecord getAt(int row) {
-        return (data == null || row < 0 || row >= data.size()) ? null : data.get(row);
+        if (row < 0 || row >= order.length) return null;
+        return page(row / PAGE_SIZE).record(row % PAGE_SIZE);
+    }
+
+    // ---------- 내부 ----------
+
+    /** 화면 행 → 순열 위치(내림차순이면 뒤에서부터) */
+    private int slot(int row) {
+        return descending ? order.length - 1 - row : row;
+    }
+
+    /** 페이지 p(없으면 그 페이지 + 다음 페이지를 읽어 옴) */
+    private RankingColumns page(int p) {
+        RankingColumns page = pages.get(p);
+        if (page == null) {
+            page = loadPage(p);
+            if ((p + 1) * PAGE_SIZE < order.length && !pages.containsKey(p + 1)) loadPage(p + 1); // 아래로 스크롤 대비
+        }
+        return page;
+    }
+
+    private RankingColumns loadPage(int p) {
+        int start = p * PAGE_SIZE;
+        int end = Math.min(order.length, start + PAGE_SIZE);
+        int[] recs = new int[end - start];
+        for (int row = start; row < end; row++) recs[row - start] = order[slot(row)];
+
+        RankingColumns rows = new RankingColumns(names, recs.length);
+        store.readColumns(rows, recs, 0, recs.length);
+        pages.put(p, rows);
+        return rows;
     }
 }
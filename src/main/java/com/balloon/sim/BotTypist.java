@@ -0,0 +1,58 @@
+package com.balloon.sim;
+
+import com.balloon.util.RngStream;
+
+/**
+ * BotTypist
+ * - 분당 단어 수(WPM, 5글자 = 1단어)와 글자당 오타율로 움직이는 단순 봇.
+ *     입력 시간 = 반응 시간 + 글자 수 × (60000 / (WPM × 5)) × (1 ± jitter)
+ *     오타     = 글자마다 errorRate 확률 → 단어 하나가 틀릴 확률 1 - (1 - errorRate)^글자 수
+ * - 글자 수는 String 길이(한글은 음절 하나 = 1글자)로 센다.
+ * - 불변: 여러 판/스레드가 같이 써도 된다.
+ */
+public final class BotTypist implements Typist {
+
+    private static final double CHARS_PER_WORD = 5.0;
+
+    private final double wpm;
+    private final double errorRate;
+    private final long reactionMillis;
+    private final double jitter;
+
+    /** 반응 300ms, 속도 흔들림 ±25% */
+    public BotTypist(double wpm, double errorRate) {
+        this(wpm, errorRate, 300, 0.25);
+    }
+
+    public BotTypist(double wpm, double errorRate, long reactionMillis, double jitter) {
+        if (wpm <= 0) throw new IllegalArgumentException("wpm must be > 0: " + wpm);
+        if (errorRate < 0 || errorRate >= 1) throw new IllegalArgumentException("errorRate must be in [0, 1): " + errorRate);
+        this.wpm = wpm;
+        this.errorRate = errorRate;
+        this.reactionMillis = Math.max(0, reactionMillis);
+        this.jitter = Math.max(0, Math.min(0.9, jitter));
+    }
+
+    @Override
+    public long typingMillis(String word, RngStream rng) {
+        double perChar = 60_000.0 / (wpm * CHARS_PER_WORD);
+        double factor = 1.0 + jitter * (2 * rng.nextDouble() - 1);
+        return reactionMillis + Math.round(word.length() * perChar * factor);
+    }
+
+    @Override
+    public boolean mistypes(String word, RngStream rng) {
+        if (errorRate == 0) return false;
+        double ok = Math.pow(1 - errorRate, word.length());
+        return rng.nextDouble() >= ok;
+    }
+
+    public double getWpm() { return wpm; }
+
+    public double getErrorRate() { return errorRate; }
+
+    @Override
+    public String toString() {
+        return String.format("BotTypist(wpm=%.0f, error=%.1f%%)", wpm, errorRate * 100);
+    }
+}
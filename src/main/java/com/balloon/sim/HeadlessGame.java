@@ -0,0 +1,184 @@
+package com.balloon.sim;
+
+import com.balloon.game.BalloonIndex;
+import com.balloon.game.EffectScheduler;
+import com.balloon.game.GameJudge;
+import com.balloon.game.GameRules;
+import com.balloon.game.GameState;
+import com.balloon.game.LevelConfig;
+import com.balloon.game.ScoreCalculator;
+import com.balloon.game.SingleGameRules;
+import com.balloon.game.WordProvider;
+import com.balloon.game.model.Balloon;
+import com.balloon.items.ColorKey;
+import com.balloon.items.ItemEffectApplier;
+import com.balloon.items.ItemKind;
+import com.balloon.items.ItemRules;
+import com.balloon.util.RngStream;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * HeadlessGame
+ * - Swing 없이 1인 모드 한 판(최대 3스테이지)을 끝까지 돌리는 시뮬레이터.
+ *   게임 모델 쪽 규칙을 그대로 쓴다: GameState + SingleGameRules(시간/생명/레벨/점수), GameJudge(입력 판정),
+ *   ItemRules(아이템 표 1P) + ItemEffectApplier → HeadlessRuntime.
+ * - GamePanel의 화면 규칙과는 다르다(GamePanel은 GameState/SingleGameRules를 쓰지 않음):
+ *     점수   : 여기서는 SingleGameRules(스테이지 클리어 때 남은 시간만 누적), GamePanel은 팝마다 +10 + 남은 시간
+ *     아이템 : 여기서는 items.csv 1P 표(RED 시간, BLUE 풍선 ±3 — HeadlessRuntime이 세기만 함),
+ *              GamePanel은 TIME ±5초 / BALLOON ±1 × 5점을 코드에서 직접 배정
+ *   → 결과는 "모델 규칙 + 아이템 표"의 밸런스 지표로 보고, 화면 점수와 그대로 비교하지 말 것.
+ * - 시계는 가상 시간(ms): 봇이 단어 하나를 치는 동안 지난 초만큼 rules.onTick()을 부르고,
+ *   지속 효과(EffectScheduler)도 같은 시계로 진행한다 → 실제 시간과 무관하게 수 μs에 한 판.
+ * - 스테이지마다 서로 다른 단어 풍선 BALLOONS_PER_STAGE개(GamePanel의 3-4-5-6-5-4-3 배치와 같은 수),
+ *   그중 RED 2개/BLUE 2개에 아이템을 붙인다(배정 개수만 GamePanel 싱글 모드와 같음).
+ *   단어 풀은 BALLOONS_PER_STAGE개 이상이어야 한다(SimulationEngine이 확인).
+ * - 난수는 전부 생성자로 받은 rng 하나에서 → 같은 시드면 같은 판.
+ * - 한 번 쓰고 버리는 객체(스레드 하나에서 play() 한 번).
+ */
+public final class HeadlessGame {
+
+    public static final int STAGES = 3;
+    public static final int BALLOONS_PER_STAGE = 30;
+    public static final int ITEMS_PER_COLOR = 2;
+    static final int TICKS_PER_SECOND = 60; // GameLoop 기본 스텝과 같게
+
+    /** 한 판 결과 */
+    public static final class Result {
+        public final int score;
+        public final int stagesCleared;  // 0 ~ 3
+        public final int lifeLeft;
+        public final int timeLeft;       // 끝났을 때 남은 시간(초)
+        public final int pops;
+        public final int misses;
+        public final int itemsPicked;
+        public final int itemTimeDelta;  // 아이템으로 바뀐 시간 합(초)
+        public final double accuracy;    // 0 ~ 100
+        public final long playMillis;    // 가상 플레이 시간
+
+        Result(int score, int stagesCleared, int lifeLeft, int timeLeft, int pops, int misses,
+               int itemsPicked, int itemTimeDelta, double accuracy, long playMillis) {
+            this.score = score;
+            this.stagesCleared = stagesCleared;
+            this.lifeLeft = lifeLeft;
+            this.timeLeft = timeLeft;
+            this.pops = pops;
+            this.misses = misses;
+            this.itemsPicked = itemsPicked;
+            this.itemTimeDelta = itemTimeDelta;
+            this.accuracy = accuracy;
+            this.playMillis = playMillis;
+        }
+
+        public boolean clearedAll() { return stagesCleared >= STAGES; }
+    }
+
+    private final LevelConfig levels;
+    private final WordProvider words;
+    private final Typist typist;
+    private final RngStream rng;
+
+    public HeadlessGame(LevelConfig levels, WordProvider words, Typist typist, RngStream rng) {
+        this.levels = levels;
+        this.words = words;
+        this.typist = typist;
+        this.rng = rng;
+    }
+
+    public Result play() {
+        GameState state = new GameState(levels);
+        GameRules rules = new SingleGameRules(state);
+        GameJudge judge = new GameJudge();
+        HeadlessRuntime rt = new HeadlessRuntime(state, new EffectScheduler(TICKS_PER_SECOND));
+
+        List<Balloon> balloons = new ArrayList<>(BALLOONS_PER_STAGE);
+        BalloonIndex<Balloon> index = null;
+        Balloon[] live = new Balloon[BALLOONS_PER_STAGE]; // 남은 풍선(swap-remove)
+        int liveCount = 0;
+        Map<String, ItemRules.Effect> items = new HashMap<>();
+
+        long clockMs = 0, nextSecondMs = 1000;
+        int stage = 0, pops = 0, misses = 0, picked = 0;
+        long keysTyped = 0, keysCorrect = 0;
+
+        while (!rules.isGameOver()) {
+            if (state.getLevel() != stage) { // 시작 또는 스테이지 클리어 → 새 풍선
+                stage = state.getLevel();
+                spawn(balloons, items);
+                index = GameJudge.newIndex(balloons);
+                liveCount = 0;
+                for (Balloon b : balloons) live[liveCount++] = b;
+                if (liveCount == 0) break; // 단어 공급이 비었음
+            }
+
+            int pick = rng.nextInt(liveCount);
+            Balloon target = live[pick];
+            String word = target.getWord();
+
+            // 치는 동안 시간이 흐름(초 경계마다 1초 감소)
+            clockMs += typist.typingMillis(word, rng);
+            while (nextSecondMs <= clockMs && !rules.isGameOver()) {
+                rules.onTick();
+                nextSecondMs += 1000;
+            }
+            rt.effects().advanceTo(clockMs * TICKS_PER_SECOND / 1000);
+            if (rules.isGameOver()) break; // 치는 중에 시간 초과
+
+            keysTyped += word.length();
+            if (typist.mistypes(word, rng)) {
+                keysCorrect += word.length() - 1;
+                misses++;
+                judge.submit(balloons, index, word + "~", rules); // 없는 단어 → onMiss(생명 -1)
+                continue;
+            }
+            keysCorrect += word.length();
+
+            // 아이템은 팝 판정 전에 적용(마지막 풍선의 시간 아이템도 클리어 점수에 들어감)
+            ItemRules.Effect e = items.remove(word);
+            if (e != null) {
+                ItemEffectApplier.apply(e.kind, e.durationSec, rt);
+                picked++;
+            }
+            live[pick] = live[--liveCount];
+            pops++;
+            judge.submit(balloons, index, word, rules); // 정답 → pop, 전부 터졌으면 점수 + 다음 레벨
+        }
+
+        int cleared = Math.min(STAGES, state.getLevel() - 1);
+        double accuracy = ScoreCalculator.accuracy((int) keysCorrect, (int) keysTyped) * 100.0;
+        return new Result(state.getTotalScore(), cleared, state.getLife(), state.getTimeLeft(),
+                pops, misses, picked, rt.getTimeDelta(), accuracy, clockMs);
+    }
+
+    /** 서로 다른 단어로 풍선 채우기 + 아이템 배정(RED 2, BLUE 2) */
+    private void spawn(List<Balloon> balloons, Map<String, ItemRules.Effect> items) {
+        balloons.clear();
+        items.clear();
+        Set<String> used = new HashSet<>();
+        int attempts = BALLOONS_PER_STAGE * 20; // 단어 풀이 작으면 있는 만큼만
+        while (balloons.size() < BALLOONS_PER_STAGE && attempts-- > 0) {
+            String w = words.nextWord();
+            if (w == null || w.isEmpty() || !used.add(w)) continue;
+            balloons.add(new Balloon(w, 0f, 0f, Balloon.Kind.RED));
+        }
+
+        int n = balloons.size();
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        int want = Math.min(n, ITEMS_PER_COLOR * 2);
+        for (int i = 0; i < want; i++) { // 부분 셔플: 앞 want개만
+            int j = i + rng.nextInt(n - i);
+            int t = order[i]; order[i] = order[j]; order[j] = t;
+        }
+        for (int i = 0; i < want; i++) {
+            ColorKey color = (i < ITEMS_PER_COLOR) ? ColorKey.RED : ColorKey.BLUE;
+            ItemRules.Effect e = ItemRules.pickFor1P(color, rng);
+            if (e.kind != ItemKind.NONE) items.put(balloons.get(order[i]).getWord(), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.balloon.sim;
+
+import com.balloon.game.EffectScheduler;
+import com.balloon.game.GameState;
+import com.balloon.game.TimedEffect;
+import com.balloon.game.render.GameRuntime;
+
+/**
+ * HeadlessRuntime
+ * - 화면/콘솔 출력 없이 아이템 효과를 GameState에 반영하는 런타임(시뮬레이션용).
+ * - 시간 아이템은 GameState에 그대로, BLIND/REVERSE는 EffectScheduler에 건다(UiRuntime과 같은 방식).
+ * - 풍선 개수 아이템은 GameState에 해당 개념이 없어서(UiRuntime도 no-op) 누적값만 세어 둔다 → 밸런스 보고용.
+ */
+public final class HeadlessRuntime implements GameRuntime {
+
+    private final GameState gs;
+    private final EffectScheduler effects;
+
+    private int myBalloonDelta;
+    private int enemyBalloonDelta;
+    private int timeDelta;
+
+    public HeadlessRuntime(GameState gs, EffectScheduler effects) {
+        this.gs = gs;
+        this.effects = effects;
+    }
+
+    @Override
+    public EffectScheduler effects() {
+        return effects;
+    }
+
+    @Override
+    public void addTimeSeconds(int delta) {
+        gs.addTimeSeconds(delta);
+        timeDelta += delta;
+    }
+
+    @Override
+    public void addMyBalloons(int delta) {
+        myBalloonDelta += delta;
+    }
+
+    @Override
+    public void addEnemyBalloons(int delta) {
+        enemyBalloonDelta += delta;
+    }
+
+    @Override
+    public void applyBlindToOpponent(int durationSec) {
+        effects.apply(TimedEffect.BLIND, durationSec);
+    }
+
+    @Override
+    public void applyReverseToOpponent(int durationSec) {
+        effects.apply(TimedEffect.REVERSE, durationSec);
+    }
+
+    /** 아이템으로 더해진/빠진 시간(초) 합 */
+    public int getTimeDelta() { return timeDelta; }
+
+    public int getMyBalloonDelta() { return myBalloonDelta; }
+
+    public int getEnemyBalloonDelta() { return enemyBalloonDelta; }
+}
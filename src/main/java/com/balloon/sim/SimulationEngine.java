@@ -0,0 +1,208 @@
+package com.balloon.sim;
+
+import com.balloon.data.ScoreHistogram;
+import com.balloon.game.LevelConfig;
+import com.balloon.game.StaticWordProvider;
+import com.balloon.items.ItemTables;
+import com.balloon.util.CsvReader;
+import com.balloon.util.RngStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * SimulationEngine
+ * - HeadlessGame을 많이(수십만~수백만 판) 돌려 결과를 요약하는 병렬 시뮬레이터.
+ *     레벨 시간(LevelConfig)/아이템 확률(items.csv)을 바꿔 가며 클리어율·점수 분포를 비교하는 용도.
+ * - 판 범위를 ForkJoinPool의 RecursiveTask로 반씩 나눠 코어마다 돌리고, 조각 결과(Summary)를 합친다.
+ *   → 스레드끼리 공유하는 가변 상태 없음(아이템 표는 불변 ItemTable, 봇은 불변 Typist).
+ * - n번째 판의 난수는 RngStream.of(seed, n) → 스레드 수/작업 분할과 상관없이 같은 seed면 같은 요약.
+ * - 수동 실행(CsvImportBench처럼 main):
+ *     java com.balloon.sim.SimulationEngine [판 수=200000] [WPM=60] [오타율=0.02] [스레드=코어 수] [seed=1]
+ */
+public final class SimulationEngine {
+
+    /** 조각 하나가 순서대로 돌리는 판 수(이보다 크면 반으로 나눔) */
+    private static final int LEAF_GAMES = 512;
+
+    private final LevelConfig levels;
+    private final List<String> words;
+    private final Typist typist;
+    private final long seed;
+
+    /** @throws IllegalArgumentException 서로 다른 단어가 스테이지 풍선 수보다 적을 때(스테이지가 짧아져 결과가 왜곡됨) */
+    public SimulationEngine(LevelConfig levels, List<String> words, Typist typist, long seed) {
+        long distinct = words.stream().filter(w -> w != null && !w.isEmpty()).distinct().count();
+        if (distinct < HeadlessGame.BALLOONS_PER_STAGE) {
+            throw new IllegalArgumentException("need at least " + HeadlessGame.BALLOONS_PER_STAGE
+                    + " distinct words per stage, got " + distinct);
+        }
+        this.levels = levels;
+        this.words = List.copyOf(words);
+        this.typist = typist;
+        this.seed = seed;
+    }
+
+    /** n번째 판 하나(재현용: 요약에서 이상한 판을 골라 다시 돌려 볼 때) */
+    public HeadlessGame.Result playOne(long n) {
+        RngStream rng = RngStream.of(seed, n);
+        StaticWordProvider provider = new StaticWordProvider(words, rng.nextLong());
+        return new HeadlessGame(levels, provider, typist, rng).play();
+    }
+
+    /** games판을 parallelism개 스레드로 */
+    public Summary run(long games, int parallelism) {
+        ItemTables.current(); // 표 읽기는 시간 재기 전에 한 번
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            long t0 = System.nanoTime();
+            Summary s = pool.invoke(new Batch(0, games));
+            s.elapsedNanos = System.nanoTime() - t0;
+            s.threads = pool.getParallelism();
+            return s;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** 판 범위 [from, to) */
+    private final class Batch extends RecursiveTask<Summary> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from, to;
+
+        Batch(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from <= LEAF_GAMES) {
+                Summary s = new Summary();
+                for (long n = from; n < to; n++) s.add(playOne(n));
+                return s;
+            }
+            long mid = (from + to) >>> 1;
+            Batch left = new Batch(from, mid);
+            left.fork();
+            Summary right = new Batch(mid, to).compute();
+            Summary s = left.join();
+            s.merge(right);
+            return s;
+        }
+    }
+
+    /** 여러 판의 요약(조각끼리 merge로 합침) */
+    public static final class Summary {
+        long games;
+        final long[] stagesCleared = new long[HeadlessGame.STAGES + 1]; // [0..3]판 수
+        long sumScore, sumPops, sumMisses, sumItems, sumItemTime, sumPlayMillis, diedOfLife;
+        double sumAccuracy;
+        final ScoreHistogram scores = new ScoreHistogram();
+        long elapsedNanos;
+        int threads;
+
+        void add(HeadlessGame.Result r) {
+            games++;
+            stagesCleared[r.stagesCleared]++;
+            sumScore += r.score;
+            sumPops += r.pops;
+            sumMisses += r.misses;
+            sumItems += r.itemsPicked;
+            sumItemTime += r.itemTimeDelta;
+            sumPlayMillis += r.playMillis;
+            sumAccuracy += r.accuracy;
+            if (r.lifeLeft <= 0) diedOfLife++;
+            scores.record(r.score);
+        }
+
+        void merge(Summary o) {
+            games += o.games;
+            for (int i = 0; i < stagesCleared.length; i++) stagesCleared[i] += o.stagesCleared[i];
+            sumScore += o.sumScore;
+            sumPops += o.sumPops;
+            sumMisses += o.sumMisses;
+            sumItems += o.sumItems;
+            sumItemTime += o.sumItemTime;
+            sumPlayMillis += o.sumPlayMillis;
+            sumAccuracy += o.sumAccuracy;
+            diedOfLife += o.diedOfLife;
+            scores.merge(o.scores);
+        }
+
+        public long games() { return games; }
+
+        /** 스테이지를 정확히 k개 깬 판의 비율(0~1) */
+        public double clearedRate(int k) { return games == 0 ? 0 : (double) stagesCleared[k] / games; }
+
+        public double meanScore() { return games == 0 ? 0 : (double) sumScore / games; }
+
+        public int scoreAtPercentile(double p) { return scores.valueAtPercentile(p); }
+
+        public double gamesPerSecond() { return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos; }
+
+        public String report() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("games=%,d threads=%d time=%.2fs → %,.0f games/s%n",
+                    games, threads, elapsedNanos / 1e9, gamesPerSecond()));
+            for (int k = 0; k <= HeadlessGame.STAGES; k++) {
+                sb.append(String.format("  cleared %d stage(s): %6.2f%%%n", k, clearedRate(k) * 100));
+            }
+            double g = Math.max(1, games);
+            sb.append(String.format("  score mean=%.1f p50=%d p90=%d p99=%d%n",
+                    meanScore(), scoreAtPercentile(50), scoreAtPercentile(90), scoreAtPercentile(99)));
+            sb.append(String.format("  per game: pops=%.1f misses=%.2f items=%.2f itemTime=%+.2fs play=%.1fs acc=%.1f%%%n",
+                    sumPops / g, sumMisses / g, sumItems / g, sumItemTime / g, sumPlayMillis / g / 1000, sumAccuracy / g));
+            sb.append(String.format("  ended by lives: %.2f%%", diedOfLife * 100 / g));
+            return sb.toString();
+        }
+    }
+
+    // ---------- 수동 실행 ----------
+
+    public static void main(String[] args) {
+        long games = (args.length > 0) ? Long.parseLong(args[0]) : 200_000;
+        double wpm = (args.length > 1) ? Double.parseDouble(args[1]) : 60;
+        double error = (args.length > 2) ? Double.parseDouble(args[2]) : 0.02;
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = (args.length > 4) ? Long.parseLong(args[4]) : 1L;
+
+        List<String> words = loadWords();
+        BotTypist bot = new BotTypist(wpm, error);
+        SimulationEngine engine = new SimulationEngine(new LevelConfig(), words, bot, seed);
+        System.out.println("[SimulationEngine] " + bot + ", " + words.size() + " words, seed=" + seed);
+
+        engine.run(Math.min(games, 20_000), threads); // 워밍업(JIT)
+        System.out.println(engine.run(games, threads).report());
+    }
+
+    /** 리소스 data/words.csv(머리행 word). 없으면 GamePanel 기본 단어들 + 스테이지 하나를 채울 만큼 더 */
+    static List<String> loadWords() {
+        List<String> out = new ArrayList<>();
+        try (InputStream in = SimulationEngine.class.getResourceAsStream("/data/words.csv")) {
+            if (in != null) {
+                CsvReader r = new CsvReader(ByteBuffer.wrap(in.readAllBytes()));
+                while (r.next()) {
+                    String w = r.getString(0);
+                    if (!w.isEmpty() && !w.equalsIgnoreCase("word")) out.add(w);
+                }
+            }
+        } catch (IOException ex) {
+            System.err.println("[SimulationEngine] words.csv: " + ex.getMessage());
+        }
+        if (out.isEmpty()) {
+            out.addAll(List.of("도서관", "고양이", "운동장", "한가람", "바다빛", "이야기", "도전정신",
+                    "자다", "인터넷", "병원", "전문가", "초롱빛", "노력하다", "택시", "집", "나라",
+                    "달빛", "별빛", "산책", "행복", "용기", "친구", "추억", "봄날", "밤하늘",
+                    // GamePanel은 25개를 돌려 써서 30칸을 채우지만, 시뮬레이션은 단어가 서로 달라야 함
+                    "무지개", "소나기", "풍선껌", "바람개비", "해바라기", "눈사람", "기차역", "놀이터"));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,16 @@
+package com.balloon.sim;
+
+import com.balloon.util.RngStream;
+
+/**
+ * 헤드리스 시뮬레이션에서 사람 대신 단어를 치는 쪽.
+ * 구현은 상태 없이(또는 불변으로) 만들어 여러 판/스레드가 같이 쓸 수 있게 한다 → 난수는 판마다 받은 rng로만.
+ */
+public interface Typist {
+
+    /** word 하나를 (고르고) 치고 Enter까지 걸리는 시간(ms) */
+    long typingMillis(String word, RngStream rng);
+
+    /** 이번 입력에서 오타를 내는지 */
+    boolean mistypes(String word, RngStream rng);
+}
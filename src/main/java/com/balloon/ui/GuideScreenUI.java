@@ -2,6 +2,7 @@ package com.balloon.ui;
 
 import com.balloon.core.ScreenId;
 import com.balloon.core.ScreenRouter;
+import com.balloon.ui.assets.ImageAssets;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -13,12 +14,15 @@ import java.awt.*;
  */
 public class GuideScreenUI extends JPanel {
 
-    private final Image bg;
+    private Image bg; // 프리로드가 끝나면 채워짐
     private final ScreenRouter router;
 
     public GuideScreenUI(ScreenRouter router) {
         this.router = router;
-        this.bg = new ImageIcon(getClass().getResource("/images/GUIDE.png")).getImage();
+        ImageAssets.loadAsync("GUIDE.png").thenAccept(img -> SwingUtilities.invokeLater(() -> {
+            bg = img;
+            repaint();
+        }));
 
         setLayout(null);
         setPreferredSize(new Dimension(1280, 720));
@@ -39,7 +43,7 @@ public class GuideScreenUI extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         // 패널 크기에 맞춰 GUIDE.png를 채움
-        g.drawImage(bg, 0, 0, getWidth(), getHeight(), this);
+        if (bg != null) g.drawImage(bg, 0, 0, getWidth(), getHeight(), this);
     }
 
     private void styleTransparent(JButton b) {
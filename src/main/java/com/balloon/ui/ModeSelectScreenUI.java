@@ -3,17 +3,22 @@ package com.balloon.ui;
 
 import com.balloon.core.ScreenId;
 import com.balloon.core.ScreenRouter;
+import com.balloon.core.Showable;
+import com.balloon.ui.assets.ImageAssets;
 
 import javax.swing.*;
 import java.awt.*;
 
-public class ModeSelectScreenUI extends JPanel {
-    private final Image bg;
+public class ModeSelectScreenUI extends JPanel implements Showable {
+    private Image bg; // 프리로드가 끝나면 채워짐
     private final ScreenRouter router;
 
     public ModeSelectScreenUI(ScreenRouter router) {
         this.router = router;
-        this.bg = new ImageIcon(getClass().getResource("/images/START.png")).getImage();
+        ImageAssets.loadAsync("START.png").thenAccept(img -> SwingUtilities.invokeLater(() -> {
+            bg = img;
+            repaint();
+        }));
 
         setLayout(null);
         setPreferredSize(new Dimension(1280, 720));
@@ -38,10 +43,15 @@ public class ModeSelectScreenUI extends JPanel {
         // ※ 듀얼을 나중에 구현하면 ScreenId.DUAL 같은 새 화면으로 연결하면 됨.
     }
 
+    @Override
+    public void onShown() {
+        router.prewarm(ScreenId.GAME); // 모드 고르는 동안 게임 화면을 미리 만들어 둠
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        g.drawImage(bg, 0, 0, getWidth(), getHeight(), this); // 배경 꽉 채우기
+        if (bg != null) g.drawImage(bg, 0, 0, getWidth(), getHeight(), this); // 배경 꽉 채우기
     }
 
     private void styleTransparent(JButton b) {
@@ -3,8 +3,11 @@ package com.balloon.ui;
 import com.balloon.core.ScreenId;
 import com.balloon.core.Showable;            // 화면 생명주기(onShown/onHidden)를 위한 인터페이스(수업에서 만든 것)
 import com.balloon.core.ScreenRouter;        // 화면 전환 라우터(수업에서 만든 것)
-import com.balloon.ranking.RankingCsvRepository;
+import com.balloon.data.BinaryRankingRepository;
+import com.balloon.data.PlayerStats;
+import com.balloon.data.RankingLogWatcher;
 import com.balloon.ranking.RankingRecord;
+import com.balloon.ranking.RankingRowSorter;
 import com.balloon.ranking.RankingTableModel;
 
 import javax.swing.*;
@@ -12,14 +15,18 @@ import javax.swing.table.*;
 import javax.swing.RowSorter.SortKey;
 import javax.swing.SortOrder;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
 
 /**
  * RankingScreenUI
- * - CSV에서 랭킹 데이터를 읽어 JTable로 표시하는 화면.
- * - 기본 정렬: 점수 내림차순(동점 시 정확도 ↓, 남은시간 ↓, 이름 ↑).
+ * - 랭킹 저장소의 전체 기록을 JTable로 표시하는 화면(보이는 구간만 읽는 페이지 모델).
+ * - 기본 정렬: 순위(점수 ↓, 정확도 ↓, 남은시간 ↓, 최신 ↑). 헤더 클릭 정렬은 저장소의 미리 계산된 순열로.
+ * - 화면이 보이는 동안 랭킹 로그를 감시해(RankingLogWatcher) 다른 기기가 저장한 기록도 바로 끼워 넣는다.
+ * - 행을 더블클릭하거나 "프로필" 버튼을 누르면 그 플레이어의 누적 통계(PlayerStats)를 보여준다.
  * - 스타일: 다크 테마 배경, 헤더 스타일, 지브라(줄무늬) 행, 숫자 우측 정렬 등.
  */
 public class RankingScreenUI extends JPanel implements Showable {
@@ -31,13 +38,17 @@ public class RankingScreenUI extends JPanel implements Showable {
     private JTable table;
     private RankingTableModel tableModel;
 
+    // 보이는 동안만 켜 두는 로그 감시자(새 기록 → 모델에 행 삽입)
+    private final RankingLogWatcher watcher = new RankingLogWatcher(BinaryRankingRepository.getInstance(),
+            (from, to) -> SwingUtilities.invokeLater(() -> tableModel.recordsAppended(from, to)));
+
     /**
-     * 생성자: 라우터를 주입받아 보관하고, UI를 구성한 뒤 데이터를 로드한다.
+     * 생성자: 라우터를 주입받아 보관하고, UI를 구성한다.
+     * 데이터 로드는 화면이 실제로 보일 때(onShown) 한 번만 한다.
      */
     public RankingScreenUI(ScreenRouter router) {
         this.router = router;
         buildUI();          // 화면 구성(레이아웃/컴포넌트/스타일)
-        loadDataAndSort();  // CSV 로드 + 기본 정렬 지정
     }
 
     /**
@@ -64,16 +75,36 @@ public class RankingScreenUI extends JPanel implements Showable {
         JButton back = new JButton("← 뒤로");
         // 주의: "START_MENU"는 네 프로젝트의 실제 키/상수로 맞춰야 함(ScreenId.START_MENU 등)
         back.addActionListener(e -> router.show(ScreenId.START));
-        top.add(back, BorderLayout.EAST);
+
+        JButton profile = new JButton("프로필");
+        profile.addActionListener(e -> showSelectedProfile());
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        buttons.setOpaque(false);
+        buttons.add(profile);
+        buttons.add(back);
+        top.add(buttons, BorderLayout.EAST);
 
         add(top, BorderLayout.NORTH);
 
         // ===== 테이블/모델 생성 =====
-        tableModel = new RankingTableModel(List.of()); // 일단 빈 데이터로 생성
+        tableModel = new RankingTableModel(); // 행은 onShown()에서 채워짐
         table = new JTable(tableModel);
         table.setFillsViewportHeight(true); // 테이블 높이가 부족해도 배경이 꽉 차 보이게
         table.setRowHeight(28);
-        table.setAutoCreateRowSorter(true); // 헤더 클릭으로 정렬 토글 가능
+
+        // 헤더 클릭 정렬: 행을 Swing에서 재정렬하지 않고 저장소 순열로 교체(전체 행 수와 무관)
+        RankingRowSorter sorter = new RankingRowSorter(tableModel);
+        table.setRowSorter(sorter);
+        sorter.setSortKeys(List.of(new SortKey(0, SortOrder.ASCENDING))); // 기본: 1등부터
+
+        // 행 더블클릭 → 플레이어 프로필
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2 && table.rowAtPoint(e.getPoint()) >= 0) showSelectedProfile();
+            }
+        });
 
         // ===== 컬럼 폭 & 정렬 방향(렌더러) 설정 =====
         TableColumnModel cols = table.getColumnModel();
@@ -153,53 +184,51 @@ public class RankingScreenUI extends JPanel implements Showable {
     }
 
     /**
-     * CSV를 읽고, 기본 정렬 기준(점수 ↓, 정확도 ↓, 남은시간 ↓, 이름 ↑)을 적용한다.
-     * - TableRowSorter를 사용해 헤더 클릭 토글 정렬도 자동 활성화한다.
+     * 저장소 최신 상태를 현재 정렬 기준으로 다시 반영한다.
+     * - 순열 계산은 백그라운드에서(새 기록만 병합), 셀 값은 보이는 페이지만 읽는다.
      */
     private void loadDataAndSort() {
-        // 1) CSV 로드(없으면 Repository가 자동으로 더미 생성)
-        RankingCsvRepository repo = new RankingCsvRepository();
-        List<RankingRecord> list = repo.loadAll();
-
-        // 2) 코드 레벨 기본 정렬(점수↓ → 정확도↓ → 남은시간↓ → 이름↑)
-        list.sort(Comparator
-                .comparingInt(RankingRecord::getScore).reversed()
-                .thenComparing(Comparator.comparingDouble(RankingRecord::getAccuracy).reversed())
-                .thenComparing(Comparator.comparingInt(RankingRecord::getTimeLeft).reversed())
-                .thenComparing(RankingRecord::getName)
-        );
-
-        // 3) 테이블에 데이터 반영
-        tableModel.setData(list);
-
-        // 4) 헤더 클릭 정렬을 위한 RowSorter 세팅(자료형에 맞춘 Comparator)
-        TableRowSorter<TableModel> sorter = new TableRowSorter<>(table.getModel());
-        // 순위(0)는 화면 계산치지만, 정렬할 일은 거의 없으므로 기본 Comparator 유지해도 무방
-        sorter.setComparator(2, Comparator.comparingInt(o -> (Integer) o));   // 점수: Integer
-        sorter.setComparator(3, Comparator.comparingDouble(o -> (Double) o)); // 정확도: Double
-        sorter.setComparator(4, Comparator.comparingInt(o -> (Integer) o));   // 남은시간: Integer
-        // playedAt(5)는 문자열 비교(원하면 LocalDateTime 파서 Comparator로 교체 가능)
-        table.setRowSorter(sorter);
+        tableModel.reload();
+    }
 
-        // 5) 화면 진입 시 기본 정렬 키: 점수(2) ↓, 정확도(3) ↓, 남은시간(4) ↓
-        List<SortKey> keys = new ArrayList<>();
-        keys.add(new SortKey(2, SortOrder.DESCENDING)); // 점수 내림차순
-        keys.add(new SortKey(3, SortOrder.DESCENDING)); // 정확도 내림차순
-        keys.add(new SortKey(4, SortOrder.DESCENDING)); // 남은시간 내림차순
-        sorter.setSortKeys(keys);
-        sorter.sort();
+    /**
+     * 선택한 행의 플레이어 통계를 대화상자로 표시.
+     * - 통계는 저장소가 기록마다 증분 갱신해 둔 값이라 조회는 즉시(전체 기록을 훑지 않음).
+     */
+    private void showSelectedProfile() {
+        int row = table.getSelectedRow();
+        if (row < 0) {
+            JOptionPane.showMessageDialog(this, "플레이어를 선택하세요.", "프로필", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        RankingRecord r = tableModel.getAt(table.convertRowIndexToModel(row));
+        if (r == null) return;
+        PlayerStats s = BinaryRankingRepository.getInstance().playerStats(r.getName());
+        if (s == null) return;
+
+        String trend = (Math.abs(s.accuracyTrend) < 0.05) ? "유지"
+                : String.format("%s%.1f%%p/판", s.accuracyTrend > 0 ? "▲ +" : "▼ ", s.accuracyTrend);
+        String last = (s.lastPlayedMillis > 0)
+                ? new SimpleDateFormat("yyyy-MM-dd HH:mm").format(new Date(s.lastPlayedMillis)) : "-";
+        String text = String.format(
+                "플레이 수: %,d판%n최고 점수: %,d  (%,d명 중 %,d위, 상위 %.1f%%)%n평균 점수: %,.1f%n"
+                        + "평균 정확도: %.1f%%%n최근 %d판 정확도: %.1f%%  (%s)%n마지막 플레이: %s",
+                s.games, s.bestScore, s.players, s.rank, 100.0 - s.percentile, s.averageScore,
+                s.averageAccuracy, s.recentGames, s.recentAccuracy, trend, last);
+        JOptionPane.showMessageDialog(this, text, s.name + " 프로필", JOptionPane.PLAIN_MESSAGE);
     }
 
     // ==== Showable 생명주기 ====
 
     @Override
     public void onShown() {
-        // 화면으로 들어올 때마다 최신 CSV를 다시 읽어 반영(다른 화면에서 점수 저장 후 돌아올 때 대비)
+        // 화면으로 들어올 때마다 최신 기록을 다시 반영(다른 화면에서 점수 저장 후 돌아올 때 대비)
         loadDataAndSort();
+        watcher.start();
     }
 
     @Override
     public void onHidden() {
-        // 특별히 해줄 일 없음(자원 정리 필요 시 여기서 처리 가능)
+        watcher.stop(); // 안 보이는 동안은 감시하지 않음(다시 들어오면 reload로 따라잡음)
     }
 }
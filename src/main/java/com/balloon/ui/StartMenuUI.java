@@ -3,6 +3,7 @@ package com.balloon.ui;
 import com.balloon.core.ScreenId;
 import com.balloon.core.ScreenRouter;
 import com.balloon.core.Session;
+import com.balloon.ui.assets.ImageAssets;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -27,13 +28,17 @@ public class StartMenuUI extends JPanel {
     // StartMenuUI 클래스 안(필드 영역)
     private static final boolean DEBUG_HOTSPOT = false; // ☆ 위치 맞춘 뒤 false로!
 
-    private final Image backgroundImage;
+    private Image backgroundImage; // 프리로드가 끝나면 채워짐(그 전엔 진행률 표시)
 
 
 
     public StartMenuUI(ScreenRouter router) {
-        // 배경 이미지 로드
-        backgroundImage = new ImageIcon(getClass().getResource("/images/Main화면.png")).getImage();
+        // 배경 이미지: 프리로드 Future에서 받아오고, 로딩 중에는 진행률을 그린다
+        ImageAssets.loadAsync("Main화면.png").thenAccept(img -> SwingUtilities.invokeLater(() -> {
+            backgroundImage = img;
+            repaint();
+        }));
+        ImageAssets.addProgressListener(() -> SwingUtilities.invokeLater(this::repaint));
 
         setLayout(null);
         setPreferredSize(new Dimension(1280, 720));
@@ -85,7 +90,25 @@ public class StartMenuUI extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         // 패널 크기에 맞춰 배경을 채움
-        g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        if (backgroundImage != null) {
+            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        } else {
+            g.setColor(new Color(18, 19, 21));
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+
+        // 에셋 프리로드 진행률(끝나면 표시 안 함)
+        if (!ImageAssets.isPreloadDone() && ImageAssets.totalCount() > 0) {
+            int done = ImageAssets.loadedCount(), total = ImageAssets.totalCount();
+            int barW = 240, barH = 6;
+            int x = getWidth() - barW - 24, y = getHeight() - 24;
+            g.setColor(new Color(255, 255, 255, 90));
+            g.fillRect(x, y, barW, barH);
+            g.setColor(Color.WHITE);
+            g.fillRect(x, y, barW * done / total, barH);
+            g.setFont(new Font("Dialog", Font.PLAIN, 12));
+            g.drawString("Loading " + done + "/" + total, x, y - 6);
+        }
     }
 
 
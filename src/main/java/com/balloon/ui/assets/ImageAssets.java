@@ -3,11 +3,141 @@ package com.balloon.ui.assets;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * ImageAssets
+ * - /images 아래 PNG를 디코딩해 캐시한다(같은 이름은 한 번만 디코딩).
+ * - preloadAll(): MANIFEST 전체를 크기 제한 스레드풀에서 병렬 디코딩하고 Future를 돌려준다.
+ *   → 시작 화면은 바로 뜨고, 각 화면은 loadAsync()로 받은 이미지가 준비되면 repaint 한다.
+ * - 진행률(loadedCount/totalCount)과 전체 프리로드 소요 시간(startupMillis)을 노출한다.
+ */
 public final class ImageAssets {
     private ImageAssets() {}
 
+    /** 앱이 쓰는 /images 목록(jar 안은 디렉터리 나열이 안 되므로 명시) */
+    public static final List<String> MANIFEST = List.of(
+            "Main화면.png", "START.png", "GUIDE.png",
+            "bg_level1.png", "bg_level2.png", "bg_level3.png",
+            "balloon_green.png", "balloon_orange.png", "balloon_pink.png",
+            "balloon_purple.png", "balloon_yellow.png",
+            "heart.png", "home.png"
+    );
+
+    // 디코딩 전용 풀: 코어 수와 4 중 작은 값(EDT/렌더링과 CPU 경쟁을 줄이기 위해 상한)
+    private static final int POOL_SIZE =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final AtomicInteger THREAD_NO = new AtomicInteger();
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(POOL_SIZE, r -> {
+        Thread t = new Thread(r, "image-assets-" + THREAD_NO.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final Map<String, CompletableFuture<BufferedImage>> cache = new ConcurrentHashMap<>();
+
+    // 프리로드 진행률/시간
+    private static final AtomicInteger loaded = new AtomicInteger();
+    private static final List<Runnable> progressListeners = new CopyOnWriteArrayList<>();
+    private static volatile CompletableFuture<Void> preloadAll;
+    private static volatile long preloadStartNanos = 0L;
+    private static volatile long startupMillis = -1L;
+
+    /**
+     * MANIFEST 전체를 병렬로 디코딩 시작(여러 번 불러도 한 번만 시작).
+     * @return 파일명 → Future (등록 순서 유지)
+     */
+    public static synchronized Map<String, CompletableFuture<BufferedImage>> preloadAll() {
+        Map<String, CompletableFuture<BufferedImage>> out = new LinkedHashMap<>();
+        if (preloadAll == null) {
+            preloadStartNanos = System.nanoTime();
+            for (String name : MANIFEST) {
+                out.put(name, loadAsync(name).whenComplete((img, ex) -> {
+                    loaded.incrementAndGet();
+                    for (Runnable l : progressListeners) l.run();
+                }));
+            }
+            preloadAll = CompletableFuture.allOf(out.values().toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((v, ex) -> {
+                        startupMillis = (System.nanoTime() - preloadStartNanos) / 1_000_000L;
+                        System.out.println("[ImageAssets] preloaded " + loaded.get() + "/" + MANIFEST.size()
+                                + " images in " + startupMillis + " ms (" + POOL_SIZE + " threads)");
+                    });
+        } else {
+            for (String name : MANIFEST) out.put(name, loadAsync(name));
+        }
+        return out;
+    }
+
+    /** 비동기 로드(풀에서 디코딩). 이미 요청된 이름이면 같은 Future를 돌려준다. */
+    public static CompletableFuture<BufferedImage> loadAsync(String name) {
+        return cache.computeIfAbsent(name, n -> CompletableFuture.supplyAsync(() -> decode(n), POOL));
+    }
+
+    /**
+     * 동기 로드(기존 API 호환). 프리로드 중이면 그 결과를 기다리고, 처음이면 호출 스레드에서 디코딩한다.
+     * EDT에서는 가능하면 loadAsync()를 쓰는 것이 좋다.
+     */
     public static BufferedImage load(String name) {
+        CompletableFuture<BufferedImage> f = cache.get(name);
+        if (f == null) {
+            CompletableFuture<BufferedImage> mine = new CompletableFuture<>();
+            f = cache.putIfAbsent(name, mine);
+            if (f == null) {
+                try {
+                    mine.complete(decode(name));
+                } catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                }
+                f = mine;
+            }
+        }
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    // ---------- 진행률/지표 ----------
+
+    /** 프리로드 완료 개수 */
+    public static int loadedCount() { return loaded.get(); }
+
+    /** 프리로드 대상 전체 개수 */
+    public static int totalCount() { return MANIFEST.size(); }
+
+    /** 프리로드가 끝났는지(시작 전이면 false) */
+    public static boolean isPreloadDone() {
+        CompletableFuture<Void> f = preloadAll;
+        return f != null && f.isDone();
+    }
+
+    /** 프리로드 시작~완료 소요 시간(ms). 아직 안 끝났으면 -1 */
+    public static long startupMillis() { return startupMillis; }
+
+    /** 이미지 하나가 끝날 때마다 호출(디코딩 스레드에서 호출되므로 UI 갱신은 invokeLater로) */
+    public static void addProgressListener(Runnable l) {
+        if (l != null) progressListeners.add(l);
+    }
+
+    public static void removeProgressListener(Runnable l) {
+        progressListeners.remove(l);
+    }
+
+    // ---------- 내부 ----------
+
+    private static BufferedImage decode(String name) {
         try {
             URL url = ImageAssets.class.getResource("/images/" + name);
             if (url == null) throw new IllegalArgumentException("Missing image: " + name);
@@ -0,0 +1,126 @@
+package com.balloon.ui.assets;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * StageBackgrounds
+ * - 스테이지 배경 PNG를 "한 번만" 디코딩(ImageAssets 캐시)하고, 화면(GraphicsConfiguration) 호환 포맷으로 변환해 보관.
+ * - 현재 패널 크기로 미리 스케일한 사본을 하나 들고 있다가, 크기가 바뀔 때만 다시 만든다.
+ * - preload(stage)로 다음 스테이지 배경을 백그라운드 스레드에서 미리 준비해
+ *   "Stage 2 Start!" 순간에 디코딩 멈춤이 생기지 않게 한다.
+ */
+public final class StageBackgrounds {
+
+    // 호환 포맷 변환은 한 장씩이면 충분(스테이지 3장) → 데몬 스레드 1개
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "stage-bg-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 파일명 → 디코딩+호환 변환된 원본(스케일 전)
+    private final Map<String, CompletableFuture<BufferedImage>> decoded = new ConcurrentHashMap<>();
+
+    // 현재 스테이지 배경의 "패널 크기로 스케일된" 사본 (EDT + 액티브 렌더 스레드 → synchronized)
+    private String currentName;
+    private BufferedImage scaled;
+
+    /** 스테이지 번호 → 배경 파일명 (1,2,그 외=3) */
+    public static String nameFor(int stage) {
+        return switch (stage) {
+            case 1 -> "bg_level1.png";
+            case 2 -> "bg_level2.png";
+            default -> "bg_level3.png";
+        };
+    }
+
+    /** 해당 스테이지 배경을 백그라운드에서 미리 디코딩/변환(이미 했으면 무시) */
+    public void preload(int stage) {
+        decodedFuture(nameFor(stage));
+    }
+
+    /** 현재 배경 교체. 미리 로드돼 있지 않으면 이 시점에 로드가 시작된다. */
+    public synchronized void select(int stage) {
+        String name = nameFor(stage);
+        if (name.equals(currentName)) return;
+        currentName = name;
+        scaled = null; // 다음 scaledFor()에서 새로 스케일
+        decodedFuture(name);
+    }
+
+    /**
+     * 현재 배경을 w×h로 스케일한 이미지(paintComponent 또는 액티브 렌더 스레드가 호출).
+     * 크기가 같으면 보관된 사본을 그대로 돌려주고, 리사이즈 때만 다시 만든다.
+     * 디코딩이 아직 안 끝났으면 null(그 프레임은 배경 없이 그림).
+     */
+    public synchronized BufferedImage scaledFor(int w, int h) {
+        if (currentName == null || w <= 0 || h <= 0) return null;
+        if (scaled != null && scaled.getWidth() == w && scaled.getHeight() == h) return scaled;
+
+        CompletableFuture<BufferedImage> f = decodedFuture(currentName);
+        if (!f.isDone() || f.isCompletedExceptionally()) return null;
+        BufferedImage src = f.join();
+        scaled = scale(src, w, h);
+        return scaled;
+    }
+
+    /** 디코딩이 끝났을 때 실행할 작업 등록(예: repaint) */
+    public void whenReady(int stage, Runnable action) {
+        decodedFuture(nameFor(stage)).thenRun(action);
+    }
+
+    // ---------- 내부 ----------
+
+    private CompletableFuture<BufferedImage> decodedFuture(String name) {
+        // 디코딩은 ImageAssets 풀(프리로드 결과 재사용), 화면 포맷 변환은 전용 스레드에서
+        return decoded.computeIfAbsent(name, n ->
+                ImageAssets.loadAsync(n).thenApplyAsync(StageBackgrounds::toCompatible, LOADER));
+    }
+
+    /** 화면과 같은 픽셀 포맷으로 변환(배경은 불투명 → OPAQUE) */
+    private static BufferedImage toCompatible(BufferedImage src) {
+        GraphicsConfiguration gc = defaultConfiguration();
+        int transparency = Transparency.OPAQUE;
+        if (gc == null) {
+            if (src.getType() == BufferedImage.TYPE_INT_RGB) return src;
+            BufferedImage out = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+            drawInto(out, src, src.getWidth(), src.getHeight());
+            return out;
+        }
+        if (src.getColorModel().equals(gc.getColorModel(transparency))) return src;
+        BufferedImage out = gc.createCompatibleImage(src.getWidth(), src.getHeight(), transparency);
+        drawInto(out, src, src.getWidth(), src.getHeight());
+        return out;
+    }
+
+    private static BufferedImage scale(BufferedImage src, int w, int h) {
+        GraphicsConfiguration gc = defaultConfiguration();
+        BufferedImage out = (gc != null)
+                ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        drawInto(out, src, w, h);
+        return out;
+    }
+
+    private static void drawInto(BufferedImage dst, BufferedImage src, int w, int h) {
+        Graphics2D g2 = dst.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private static GraphicsConfiguration defaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+    }
+}
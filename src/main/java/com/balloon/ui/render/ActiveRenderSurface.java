@@ -0,0 +1,141 @@
+package com.balloon.ui.render;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ActiveRenderSurface
+ * - Canvas + BufferStrategy(더블 버퍼 페이지 플립)에 전용 렌더 스레드가 직접 그리는 표면.
+ * - RepaintManager를 거치지 않으므로 프레임 간격이 repaint 합치기(coalescing)에 흔들리지 않는다.
+ * - 그리기는 sceneLock을 잡고 한다 → EDT가 풍선 목록/입력 커서를 바꿀 때도 같은 락을 잡아야 함.
+ * - BufferStrategy를 만들 수 없거나 그리는 중 예외가 나면 onFailure(EDT)를 불러 JPanel 경로로 되돌린다.
+ */
+public final class ActiveRenderSurface extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 매 프레임 호출되는 그리기 콜백(렌더 스레드, sceneLock 안) */
+    public interface Painter {
+        void paint(Graphics2D g, int w, int h);
+    }
+
+    private final Painter painter;
+    private final Object sceneLock;
+    private final long periodNanos;
+    private final Runnable onFailure;
+
+    private volatile boolean running = false;
+    private boolean wanted = false; // start()됐지만 아직 화면에 붙지 않았으면 addNotify()에서 시작
+    private Thread thread;
+
+    public ActiveRenderSurface(Painter painter, Object sceneLock, int targetFps, Runnable onFailure) {
+        this.painter = painter;
+        this.sceneLock = sceneLock;
+        this.periodNanos = 1_000_000_000L / Math.max(1, targetFps);
+        this.onFailure = onFailure;
+        setIgnoreRepaint(true); // OS repaint 요청은 무시(렌더 스레드가 계속 그림)
+        setFocusable(false);
+    }
+
+    /** 렌더 스레드 시작(EDT). 아직 화면에 붙지 않았으면 붙는 순간 시작 */
+    public void start() {
+        wanted = true;
+        if (isDisplayable()) launch();
+    }
+
+    /** 렌더 스레드 정지(EDT). 진행 중인 프레임이 끝날 때까지 잠깐 기다린다 */
+    public void stop() {
+        wanted = false;
+        halt();
+    }
+
+    public boolean isRunning() { return running; }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (wanted) launch();
+    }
+
+    @Override
+    public void removeNotify() {
+        halt(); // 피어가 사라지면 BufferStrategy도 무효
+        super.removeNotify();
+    }
+
+    @Override public void paint(Graphics g) { /* 렌더 스레드가 그림 */ }
+
+    @Override public void update(Graphics g) { /* 배경 지우기 생략 */ }
+
+    // ---------- 내부 ----------
+
+    private void launch() {
+        if (running) return;
+        try {
+            createBufferStrategy(2);
+        } catch (Exception ex) {
+            fail("cannot create BufferStrategy: " + ex);
+            return;
+        }
+        running = true;
+        thread = new Thread(this::renderLoop, "active-render");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void halt() {
+        running = false;
+        Thread t = thread;
+        thread = null;
+        if (t != null && t != Thread.currentThread()) {
+            try { t.join(250); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        }
+    }
+
+    private void renderLoop() {
+        long deadline = System.nanoTime();
+        while (running) {
+            int w = getWidth(), h = getHeight();
+            if (w > 0 && h > 0) {
+                try {
+                    drawFrame(w, h);
+                } catch (RuntimeException ex) {
+                    running = false;
+                    fail("render failed: " + ex);
+                    return;
+                }
+            }
+
+            // 다음 프레임 시각까지 대기(밀렸으면 따라잡으려 몰아 그리지 않고 기준을 현재로)
+            deadline += periodNanos;
+            long wait = deadline - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            else deadline = System.nanoTime();
+        }
+    }
+
+    private void drawFrame(int w, int h) {
+        BufferStrategy bs = getBufferStrategy();
+        if (bs == null) throw new IllegalStateException("no BufferStrategy");
+        do {
+            do {
+                Graphics2D g = (Graphics2D) bs.getDrawGraphics();
+                try {
+                    synchronized (sceneLock) {
+                        painter.paint(g, w, h);
+                    }
+                } finally {
+                    g.dispose();
+                }
+            } while (bs.contentsRestored() && running);
+            bs.show();
+        } while (bs.contentsLost() && running);
+        Toolkit.getDefaultToolkit().sync(); // X11 등에서 실제로 화면에 내보냄
+    }
+
+    private void fail(String why) {
+        System.err.println("[ActiveRenderSurface] " + why + " → fallback to passive rendering");
+        if (onFailure != null) EventQueue.invokeLater(onFailure);
+    }
+}
@@ -0,0 +1,139 @@
+package com.balloon.ui.render;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * BalloonSpriteCache
+ * - (스킨 이미지, 크기, 단어) 조합별로 "풍선 PNG + 글자"를 미리 합성해 둔 캐시.
+ *   글자는 기존처럼 모두 검정(싱글 모드 아이템 단어는 화면에서 구분되지 않는 "비밀" 아이템).
+ * - 한 프레임에서 풍선 하나는 drawImage 한 번으로 끝난다(스케일/폰트/FontMetrics 계산 없음).
+ * - 스테이지가 바뀌면 evictAll()로 비운다(단어/배치가 통째로 바뀌기 때문).
+ * - 적중률 카운터(hits/misses)로 프레임 비용 감소를 확인할 수 있다.
+ */
+public final class BalloonSpriteCache {
+
+    /** 한 스테이지 풍선 수(25~30개) 대비 넉넉한 상한. 넘으면 통째로 비운다. */
+    private static final int MAX_ENTRIES = 256;
+
+    /** 합성된 스프라이트 + 그릴 때의 좌상단 보정값(글자가 풍선보다 넓으면 이미지가 더 넓어짐) */
+    public static final class Sprite {
+        public final BufferedImage image;
+        public final int offsetX;   // 풍선 중심 기준 좌상단 X 오프셋
+        public final int offsetY;   // 풍선 중심 기준 좌상단 Y 오프셋
+
+        Sprite(BufferedImage image, int offsetX, int offsetY) {
+            this.image = image;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+        }
+    }
+
+    /** 캐시 키: 스킨은 BalloonSkins가 캐시한 이미지 인스턴스(=스킨 1:1)로 구분 */
+    private static final class Key {
+        final BufferedImage skin;
+        final int w, h;
+        final String text;
+        final int hash;
+
+        Key(BufferedImage skin, int w, int h, String text) {
+            this.skin = skin;
+            this.w = w;
+            this.h = h;
+            this.text = text;
+            this.hash = Objects.hash(System.identityHashCode(skin), w, h, text);
+        }
+
+        @Override public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key k)) return false;
+            return skin == k.skin && w == k.w && h == k.h && Objects.equals(text, k.text);
+        }
+
+        @Override public int hashCode() { return hash; }
+    }
+
+    private final Map<Key, Sprite> sprites = new HashMap<>();
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * 캐시된 스프라이트를 돌려준다. 없으면 한 번 합성해서 저장한다.
+     * @param font 글자 폰트(렌더러가 넘겨줌)
+     */
+    public Sprite get(BufferedImage skin, int w, int h, String text, Font font, GraphicsConfiguration gc) {
+        Key key = new Key(skin, w, h, text);
+        Sprite s = sprites.get(key);
+        if (s != null) {
+            hits++;
+            return s;
+        }
+        misses++;
+        if (sprites.size() >= MAX_ENTRIES) sprites.clear(); // 비정상적으로 커지면 리셋
+        s = compose(skin, w, h, text, font, gc);
+        sprites.put(key, s);
+        return s;
+    }
+
+    /** 스테이지 전환 시 호출: 이전 스테이지 스프라이트를 모두 버린다(적중률은 --render-stats 일 때만 출력) */
+    public void evictAll() {
+        if (RenderMode.statsEnabled() && hits + misses > 0) {
+            System.out.printf("[SpriteCache] evict %d sprites (hits=%d, misses=%d, hitRate=%.1f%%)%n",
+                    sprites.size(), hits, misses, hitRate() * 100.0);
+        }
+        sprites.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    public long getHits()   { return hits; }
+    public long getMisses() { return misses; }
+    public int size()       { return sprites.size(); }
+
+    /** 0.0 ~ 1.0 적중률(조회가 없으면 0) */
+    public double hitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 0.0 : (double) hits / total;
+    }
+
+    // ---------- 합성 ----------
+
+    private static Sprite compose(BufferedImage skin, int w, int h, String text,
+                                  Font font, GraphicsConfiguration gc) {
+        // 글자 폭 측정용 임시 그래픽(이미지 폭을 정하기 위해 먼저 잰다)
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D pg = probe.createGraphics();
+        FontMetrics fm = pg.getFontMetrics(font);
+        int textW = (text == null) ? 0 : fm.stringWidth(text);
+        int ascent = fm.getAscent();
+        pg.dispose();
+
+        // 글자가 풍선보다 넓으면 잘리지 않게 이미지 폭을 늘린다
+        int imgW = Math.max(w, textW + 2);
+        int imgH = h;
+        int balloonX = (imgW - w) / 2;
+
+        BufferedImage img = (gc != null)
+                ? gc.createCompatibleImage(imgW, imgH, Transparency.TRANSLUCENT)
+                : new BufferedImage(imgW, imgH, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2 = img.createGraphics();
+        try {
+            g2.drawImage(skin, balloonX, 0, w, h, null);
+            if (text != null && !text.isEmpty()) {
+                g2.setFont(font);
+                g2.setColor(Color.BLACK);
+                // 기존 renderBalloonOnly와 같은 기준선: 중심 + ascent/2 - 6
+                int tx = imgW / 2 - textW / 2;
+                int ty = h / 2 + ascent / 2 - 6;
+                g2.drawString(text, tx, ty);
+            }
+        } finally {
+            g2.dispose();
+        }
+        return new Sprite(img, -(w / 2) - balloonX, -(h / 2));
+    }
+}
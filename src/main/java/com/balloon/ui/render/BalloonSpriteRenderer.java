@@ -7,6 +7,11 @@ import java.awt.geom.QuadCurve2D;
 
 public class BalloonSpriteRenderer {
 
+    // (스킨, 크기, 단어)별 합성 스프라이트 캐시
+    private final BalloonSpriteCache spriteCache = new BalloonSpriteCache();
+    private Font textBaseFont;  // textFont를 만들 때 기준이 된 g2 폰트
+    private Font textFont;      // 풍선 글자 폰트(BOLD 18) - 매 프레임 deriveFont 하지 않도록 보관
+
     public void render(Graphics2D g2, BalloonSprite b) {
         if (b.state == BalloonSprite.State.DEAD) return;
 
@@ -41,17 +46,39 @@ public class BalloonSpriteRenderer {
         g2.draw(new java.awt.geom.QuadCurve2D.Float(ax, ay, cx, cy, bx, by));
     }
 
-    // 풍선 이미지 + 글자만 그리기
+    // 풍선 이미지 + 글자만 그리기 (미리 합성된 스프라이트를 drawImage 한 번으로)
     public void renderBalloonOnly(Graphics2D g2, com.balloon.game.model.BalloonSprite b) {
         if (b.state == com.balloon.game.model.BalloonSprite.State.DEAD) return;
-        g2.drawImage(b.img, b.x - b.w/2, b.y - b.h/2, b.w, b.h, null);
 
-        g2.setFont(g2.getFont().deriveFont(Font.BOLD, 18f));
-        g2.setColor(Color.BLACK);
-        FontMetrics fm = g2.getFontMetrics();
-        int tx = b.x - fm.stringWidth(b.text)/2;
-        int ty = b.y + fm.getAscent()/2 - 6;
-        g2.drawString(b.text, tx, ty);
+        Font base = g2.getFont();
+        if (textFont == null || !base.equals(textBaseFont)) {
+            textBaseFont = base;
+            textFont = base.deriveFont(Font.BOLD, 18f);
+        }
+        BalloonSpriteCache.Sprite s = spriteCache.get(
+                b.img, b.w, b.h, b.text, textFont, g2.getDeviceConfiguration());
+        g2.drawImage(s.image, b.x + s.offsetX, b.y + s.offsetY, null);
+    }
+
+    // 현재 입력의 후보 풍선 표시(풍선 둘레 링)
+    public void renderHighlight(Graphics2D g2, com.balloon.game.model.BalloonSprite b) {
+        if (b.state == com.balloon.game.model.BalloonSprite.State.DEAD) return;
+        Object oldAA = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setStroke(new BasicStroke(3f));
+        g2.setColor(new Color(255, 235, 90, 230));
+        g2.drawOval(b.x - b.w/2 + 2, b.y - b.h/2 + 2, b.w - 4, b.h - 4);
+        if (oldAA != null) g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, oldAA);
+    }
+
+    /** 스테이지 전환 시 호출: 합성 스프라이트 캐시 비우기 */
+    public void evictSprites() {
+        spriteCache.evictAll();
+    }
+
+    /** 적중률 등 캐시 통계 확인용 */
+    public BalloonSpriteCache getSpriteCache() {
+        return spriteCache;
     }
 
 }
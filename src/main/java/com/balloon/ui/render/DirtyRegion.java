@@ -0,0 +1,60 @@
+package com.balloon.ui.render;
+
+import java.awt.*;
+
+/**
+ * DirtyRegion
+ * - 한 프레임 동안 "바뀐 영역"을 모아 두는 누적기.
+ * - 풍선/HUD/오버레이가 바뀔 때 자기 영역을 mark() 하고,
+ *   프레임 타이머는 flush()로 합집합만 repaint 한다.
+ * - 아무것도 안 바뀐 프레임은 repaint 자체를 건너뛴다(유휴 CPU ≒ 0).
+ */
+public final class DirtyRegion {
+
+    private final Rectangle union = new Rectangle();
+    private boolean dirty = false;
+    private boolean all = false;
+
+    /** 사각형 영역을 더럽힘(빈 사각형은 무시) */
+    public void mark(int x, int y, int w, int h) {
+        if (w <= 0 || h <= 0) return;
+        if (!dirty) {
+            union.setBounds(x, y, w, h);
+            dirty = true;
+        } else {
+            union.add(x, y);          // 두 꼭짓점을 더해 합집합 확장(할당 없음)
+            union.add(x + w, y + h);
+        }
+    }
+
+    public void mark(Rectangle r) {
+        if (r != null) mark(r.x, r.y, r.width, r.height);
+    }
+
+    /** 패널 전체를 다시 그려야 할 때(스테이지 전환/리사이즈 등) */
+    public void markAll() {
+        dirty = true;
+        all = true;
+    }
+
+    public boolean isDirty() { return dirty; }
+
+    /** repaint 없이 비우기(액티브 렌더 모드는 매 프레임 전체를 직접 그림) */
+    public void clear() {
+        dirty = false;
+        all = false;
+    }
+
+    /**
+     * 모인 영역을 대상 컴포넌트에 repaint 요청하고 비운다.
+     * @return 실제로 repaint 요청을 했으면 true
+     */
+    public boolean flush(Component target) {
+        if (!dirty) return false;
+        if (all) target.repaint();
+        else target.repaint(union.x, union.y, union.width, union.height);
+        dirty = false;
+        all = false;
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.balloon.ui.render;
+
+/**
+ * RenderMode
+ * - PASSIVE: 기존 JPanel + repaint() (RepaintManager가 그릴 시점을 정함)
+ * - ACTIVE : Canvas BufferStrategy에 전용 렌더 스레드가 직접 그리고 페이지 플립
+ * - 실행 시 선택: 인자 --active-render 또는 -Dballoon.render=active (기본 PASSIVE)
+ * - 프레임 통계 출력(게임 화면을 떠날 때): 인자 --render-stats 또는 -Dballoon.render.stats=true (기본 끔)
+ */
+public enum RenderMode {
+    PASSIVE, ACTIVE;
+
+    public static final String PROPERTY = "balloon.render";
+    public static final String ARG_ACTIVE = "--active-render";
+    public static final String STATS_PROPERTY = "balloon.render.stats";
+    public static final String ARG_STATS = "--render-stats";
+
+    /** 시스템 속성에서 현재 모드 읽기 */
+    public static RenderMode current() {
+        return "active".equalsIgnoreCase(System.getProperty(PROPERTY, "passive")) ? ACTIVE : PASSIVE;
+    }
+
+    /** 루프/렌더 프레임 통계를 콘솔에 찍을지 */
+    public static boolean statsEnabled() {
+        return Boolean.getBoolean(STATS_PROPERTY);
+    }
+
+    /** 실행 인자에 --active-render / --render-stats가 있으면 시스템 속성으로 옮겨 둔다 */
+    public static void applyArgs(String[] args) {
+        if (args == null) return;
+        for (String a : args) {
+            if (ARG_ACTIVE.equals(a)) System.setProperty(PROPERTY, "active");
+            if (ARG_STATS.equals(a)) System.setProperty(STATS_PROPERTY, "true");
+        }
+    }
+}
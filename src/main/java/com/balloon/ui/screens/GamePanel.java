@@ -2,20 +2,36 @@
 package com.balloon.ui.screens;
 
 import com.balloon.core.*;
+import com.balloon.game.BalloonIndex;
+import com.balloon.game.HangulJamo;
+import com.balloon.game.PrefixMatcher;
+import com.balloon.game.ScoreCalculator;
 import com.balloon.game.model.BalloonSprite;
 import com.balloon.ui.assets.BalloonSkins;
 import com.balloon.ui.assets.BalloonSkins.Skin;
 import com.balloon.ui.assets.ImageAssets;
+import com.balloon.ui.assets.StageBackgrounds;
 import com.balloon.ui.render.BalloonSpriteRenderer;
+import com.balloon.ui.render.ActiveRenderSurface;
+import com.balloon.ui.render.DirtyRegion;
+import com.balloon.ui.render.RenderMode;
 // [ADD] 아이템 카테고리 enum
 import com.balloon.ui.skin.SecretItemSkin.ItemCategory;
+import com.balloon.util.FrameTimeStats;
+import com.balloon.util.GameLoop;
+import com.balloon.util.TimingWheel;
 
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
 import java.awt.*;
+import java.awt.event.InputMethodEvent;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -34,9 +50,10 @@ public class GamePanel extends JPanel implements Showable {
         super.paintComponent(g);
         final Graphics2D g2 = (Graphics2D) g.create();
 
-        //배경 png
-        if (bgImg != null) {
-            g.drawImage(bgImg, 0, 0, getWidth(), getHeight(), null); // 부모 패널 전체에 배경 적용
+        //배경 png : 패널 크기로 미리 스케일된 사본을 그대로 찍는다(리사이즈 때만 다시 스케일)
+        BufferedImage bg = backgrounds.scaledFor(getWidth(), getHeight());
+        if (bg != null) {
+            g.drawImage(bg, 0, 0, null); // 부모 패널 전체에 배경 적용
         }
     }
 
@@ -51,10 +68,21 @@ public class GamePanel extends JPanel implements Showable {
     private int lives = 3; //life(하트) - single mode : 오타 1회당 1감소, 0이면 게임 오버
 
     private final JLabel overlayLabel = new JLabel(" ", SwingConstants.CENTER);
-    private final Timer overlayTimer = new Timer(1200, e -> overlayLabel.setVisible(false));
+    private TimingWheel.Task overlayTask; // 오버레이 숨김 예약
     private boolean stageClearedThisRound = false;
     private volatile boolean navigatedAway = false;
-    private final JTextField inputField = new JTextField(); //한글입력 가능
+    private final JTextField inputField = new JTextField() { //한글입력 가능
+        @Override
+        protected void processInputMethodEvent(InputMethodEvent e) {
+            applyingIme = true; // Swing이 조합 글자를 지웠다 다시 넣는 동안의 문서 이벤트는 중간 상태
+            try {
+                super.processInputMethodEvent(e);
+            } finally {
+                applyingIme = false;
+            }
+            if (e.getID() == InputMethodEvent.INPUT_METHOD_TEXT_CHANGED) readInput(getDocument());
+        }
+    };
 
     // 임시 단어 리스트(후에 words.csv로 교체 예정)
     private final List<String> words = List.of(
@@ -77,8 +105,18 @@ public class GamePanel extends JPanel implements Showable {
     // 중앙 플레이 영역(풍선 캔버스)
     private final PlayField playField;
 
+    // 입력 중 단어가 "유일하게 정확히 일치"하면 Enter 없이 바로 터뜨리는 모드(기본 꺼짐)
+    private static final boolean AUTO_POP_UNIQUE = false;
+    private final Segment inputSeg = new Segment(); // 문서 글자를 복사 없이 읽기 위한 재사용 버퍼
+    private char[] jamoBuf = new char[64];          // 입력 → 자모열 분해 재사용 버퍼
+    private boolean applyingIme = false;            // IME 이벤트를 문서에 반영하는 중(그동안 문서 리스너는 무시)
+
     private boolean caretOn = true;
-    private final Timer tickTimer;
+
+    // 60Hz 고정 스텝 게임 루프: 프레임 갱신 + 1초 카운트다운/토스트/스테이지 전환 예약을 모두 담당
+    private final GameLoop loop;
+    private TimingWheel.Task countdownTask;
+    private TimingWheel.Task toastTask;
 
     // 전역 컨텍스트
     private final GameContext ctx = GameContext.getInstance();
@@ -94,9 +132,9 @@ public class GamePanel extends JPanel implements Showable {
     }
 
     // ▼ [NEW] 이미지 자산 (배경/집/하트)
-    private BufferedImage bgImg;
-    private BufferedImage houseImg;
-    private BufferedImage heartImg;
+    private final StageBackgrounds backgrounds = new StageBackgrounds();
+    private volatile BufferedImage houseImg;   // 액티브 렌더 스레드도 읽음
+    private volatile BufferedImage heartImg;
 
     public GamePanel(ScreenRouter router) {
         this.router = router;
@@ -170,48 +208,50 @@ public class GamePanel extends JPanel implements Showable {
         overlayLabel.setForeground(new Color(255, 255, 160));
         overlayLabel.setVisible(false);
         playField.add(overlayLabel, BorderLayout.NORTH);
-        overlayTimer.setRepeats(false);
 
         // [입력 안정화]
         setFocusable(true);
         setFocusTraversalKeysEnabled(false);
         setupKeyBindings();
-        SwingUtilities.invokeLater(this::grabFocusSafely);
+        setupPrefixTracking();
+        // 포커스/타이머 시작은 onShown()에서(라우터가 화면을 실제로 보여줄 때)
         playField.setFocusable(false);
         wordLabel.setFocusable(false);
         toastLabel.setFocusable(false);
 
 
-        // [1초 틱]
-        tickTimer = new Timer(1000, e -> {
-            if (timeLeft > 0) {
-                timeLeft--;
-                timeLabel.setText("Time: " + timeLeft);
-                if (timeLeft == 0 && !playField.isAllCleared()) onStageFailed();
-            }
+        // [게임 루프] 시작은 onShown()에서
+        loop = new GameLoop(60, new GameLoop.Hooks() {
+            @Override public void update(double dtSeconds) { playField.update(dtSeconds); }
+            @Override public void render(double alpha)     { playField.render(alpha); }
         });
 
         // ▼ [NEW] 이미지 로드
-        heartImg = ImageAssets.load("heart.png");
-        houseImg = ImageAssets.load("home.png");
-        applyStageBackground(stage);
+        // 프리로드 Future에서 받아 준비되면 다시 그림(생성자에서 디코딩을 기다리지 않음)
+        ImageAssets.loadAsync("heart.png").thenAccept(img -> SwingUtilities.invokeLater(() -> {
+            heartImg = img;
+            playField.markHudDirty();
+        }));
+        ImageAssets.loadAsync("home.png").thenAccept(img -> SwingUtilities.invokeLater(() -> {
+            houseImg = img;
+            playField.invalidate(); // 실제 비율로 집/앵커 다시 배치
+        }));
 
-        setStage(1);
-        applyStageBackground(1);
+        setStage(1); // 배경 선택 + 다음 스테이지 배경 미리 로드 포함
+
+        // 실행 옵션(--active-render)이면 플레이 영역을 Canvas 렌더 스레드로 그림
+        if (RenderMode.current() == RenderMode.ACTIVE) playField.useActiveRendering();
 
         // HUD 동기화/첫 단어
         updateContextHud();
         showCurrentWord();
     }
 
-    // ▼ [NEW] 스테이지별 배경 로드
+    // ▼ [NEW] 스테이지별 배경 선택 + 다음 스테이지 배경을 백그라운드에서 미리 준비
     private void applyStageBackground(int stage) {
-        String bgName = switch (stage) {
-            case 1 -> "bg_level1.png";
-            case 2 -> "bg_level2.png";
-            default -> "bg_level3.png";
-        };
-        bgImg = ImageAssets.load(bgName);
+        backgrounds.select(stage);
+        if (stage < 3) backgrounds.preload(stage + 1);
+        backgrounds.whenReady(stage, () -> SwingUtilities.invokeLater(this::repaint));
         repaint();
     }
 
@@ -258,6 +298,7 @@ public class GamePanel extends JPanel implements Showable {
             if (popped.category == ItemCategory.TIME) {
                 timeLeft = Math.max(0, timeLeft + popped.itemValue);
                 timeLabel.setText("Time: " + timeLeft);
+                playField.markHudDirty();
             } else if (popped.category == ItemCategory.BALLOON) {
                 // 예: ±1을 점수 보너스(×5)로 반영
                 score += (popped.itemValue * 5);
@@ -274,7 +315,7 @@ public class GamePanel extends JPanel implements Showable {
             // --- 실패 처리: 단어 불일치 ---
             showToast("✗ Miss", new Color(190, 60, 60));
             lives = Math.max(0, lives - 1); // 오타 1회 = 목숨 1 감소
-            playField.repaint();             // 하트 즉시 갱신
+            playField.markHudDirty();        // 하트 영역만 다음 프레임에 갱신
             if (lives == 0) {
                 onStageFailed();
                 return;
@@ -290,9 +331,30 @@ public class GamePanel extends JPanel implements Showable {
     private void showToast(String msg, Color color) {
         toastLabel.setForeground(color);
         toastLabel.setText(msg);
-        Timer t = new Timer(600, e -> toastLabel.setText(" "));
-        t.setRepeats(false);
-        t.start();
+        // 이전 토스트의 지우기 예약은 취소(새 토스트가 일찍 지워지지 않게)
+        if (toastTask != null) toastTask.cancel();
+        toastTask = loop.schedule(600, () -> toastLabel.setText(" "));
+    }
+
+    /** [1초 틱] 루프의 1초 반복 예약에서 호출 */
+    private void onSecond() {
+        if (timeLeft > 0) {
+            timeLeft--;
+            timeLabel.setText("Time: " + timeLeft);
+            playField.markHudDirty();
+            if (timeLeft == 0 && !playField.isAllCleared()) onStageFailed();
+        }
+    }
+
+    /** 카운트다운이 멈춰 있으면 다시 시작 */
+    private void startCountdown() {
+        if (countdownTask == null || !countdownTask.isPending()) {
+            countdownTask = loop.scheduleRepeating(1000, this::onSecond);
+        }
+    }
+
+    private void stopCountdown() {
+        if (countdownTask != null) countdownTask.cancel();
     }
 
     private void nextWord() {
@@ -306,7 +368,7 @@ public class GamePanel extends JPanel implements Showable {
 
     private void gameOver() {
         showToast("Time Over!", new Color(90, 90, 90));
-        if (tickTimer.isRunning()) tickTimer.stop();
+        stopCountdown();
         lastCompletedStage = stage;
         showResult();
     }
@@ -314,21 +376,30 @@ public class GamePanel extends JPanel implements Showable {
     // grabFocusSafely() 안에서
     private void grabFocusSafely() {
         inputField.requestFocusInWindow();    // ← 텍스트필드에 포커스!
-        if (!tickTimer.isRunning()) tickTimer.start();
+        startCountdown();
     }
 
 
     @Override public void onShown() {
         navigatedAway = false;
+        loop.start();
+        if (playField != null) playField.start();
         grabFocusSafely();
         updateContextHud();
     }
 
     public void onHidden() {
         navigatedAway = true;
-        if (tickTimer.isRunning()) tickTimer.stop();
+        // 숨겨진 뒤에 실행될 예약(토스트/전환/카운트다운)은 의미가 없으므로 모두 버림
+        loop.cancelAll();
+        loop.stop();
         if (playField != null) playField.stop();
-        if (overlayTimer.isRunning()) overlayTimer.stop();
+        toastLabel.setText(" ");
+        overlayLabel.setVisible(false);
+        if (RenderMode.statsEnabled()) { // --render-stats 일 때만
+            System.out.println("[GamePanel] loop " + loop.statsSummary());
+            if (playField != null) System.out.println("[GamePanel] render " + playField.frameStats.summary());
+        }
     }
 
     // ==========================================================
@@ -336,9 +407,19 @@ public class GamePanel extends JPanel implements Showable {
     // ==========================================================
     private final class PlayField extends JPanel {
         private final BalloonSpriteRenderer renderer = new BalloonSpriteRenderer();
-        private final ArrayList<BalloonSprite> balloons = new ArrayList<>();
+        // 단어(대소문자 무시) → 살아있는 풍선 슬롯 인덱스: 매칭/제거 O(1)
+        private final BalloonIndex<BalloonSprite> balloons = new BalloonIndex<>(b -> b.text, true);
+        // 입력 중인 글자의 접두사 후보(하이라이트용) 트라이
+        private final PrefixMatcher<BalloonSprite> prefix = new PrefixMatcher<>();
+        private int drawnPrefixVersion = -1;
         private final Random rnd = new Random();
-        private final Timer frameTimer; // ~60fps
+        private final DirtyRegion damage = new DirtyRegion(); // 이번 프레임에 바뀐 영역
+
+        // 렌더 경로: 기본은 JPanel repaint, 액티브 모드면 Canvas 렌더 스레드(surface != null)
+        private final Object sceneLock = new Object(); // 렌더 스레드와 EDT가 풍선/입력 커서를 함께 만질 때
+        private ActiveRenderSurface surface;
+        // 장면(paintScene) 그리기 시간 — 두 경로 모두 같은 구간을 잼(패시브는 EDT, 액티브는 렌더 스레드가 기록)
+        private volatile FrameTimeStats frameStats = new FrameTimeStats("passive", 600);
 
         // [ADD] 단어별 아이템 효과 매핑(한 스테이지에 4개 배정)
         private final java.util.Map<String, PopResult> itemByWord = new java.util.HashMap<>();
@@ -351,16 +432,11 @@ public class GamePanel extends JPanel implements Showable {
             setOpaque(false); //배경은 png만 쓰므로
 
             SwingUtilities.invokeLater(() -> {
-                layoutHouse();
-                spawnInitialBalloons();
-            });
-
-            // 16ms ≈ 60fps
-            frameTimer = new Timer(16, e -> {
-                updateModel();
-                repaint();
+                  synchronized (sceneLock) { // 액티브 렌더 스레드가 그리는 중이면 끝날 때까지 대기
+                    layoutHouse();
+                    spawnInitialBalloons();
+                }
             });
-            frameTimer.start();
         }
 
         //집 너비 = 화면폭의 10%, 바닥과 72px 간격, 앵커는 지붕 30% 높이 지점
@@ -368,11 +444,14 @@ public class GamePanel extends JPanel implements Showable {
             int W = Math.max(getWidth(), 900);
             int H = Math.max(getHeight(), 600);
 
-            if (houseImg == null) houseImg = ImageAssets.load("home.png");
+            // home.png 로드 전이면 원본 비율(320x261)로 가정
+            double aspect = (houseImg != null)
+                    ? houseImg.getHeight() / (double) houseImg.getWidth()
+                    : 261 / 320.0;
 
             // ★ 집 전체 스케일 다운 (화면 폭의 9% 정도, 최소 90px, 최대 130px)
             int hw = Math.max(90, (int)(W * 0.09));
-            int hh = (int)(hw * (houseImg.getHeight() / (double) houseImg.getWidth()));
+            int hh = (int)(hw * aspect);
 
             int hx = W/2 - hw/2;
             int hy = H - hh - 72; // 바닥과 간격
@@ -384,56 +463,62 @@ public class GamePanel extends JPanel implements Showable {
 
         /** 처음 풍선 대량 생성 */
         private void spawnInitialBalloons() {
-            balloons.clear();
-
-            Skin[] skins = new Skin[]{ Skin.PURPLE, Skin.YELLOW, Skin.PINK, Skin.ORANGE, Skin.GREEN };
-
-            int W = Math.max(getWidth(), 900);
-            int H = Math.max(getHeight(), 600);
-            int centerX = W / 2;
-
-            // 3-4-5-6-5-4-3 패턴
-            int[] pattern = {3, 4, 5, 6, 5, 4, 3};
-            int s = Math.max(68, Math.min(92, (int)(W * 0.07)));   // 한 변 길이
-            int gapX = (int)(s * 1.20);                             // 가로 간격
-            int gapY = (int)(s * 0.95);                             // 세로 간격
-            //다발의 맨 윗줄 Y (집 앵커에서 충분히 위로)
-            int topY = Math.max(110, houseAnchor.y - (gapY * (pattern.length + 1)));
-
-
-            String[] bank = {
-                    "도서관","고양이","운동장","한가람","바다빛","이야기","도전정신",
-                    "자다","인터넷","병원","전문가","초롱빛","노력하다","택시","집","나라",
-                    "달빛","별빛","산책","행복","용기","친구","추억","봄날","밤하늘"
-            };
-            int idx = 0;
-
-            for (int r = 0; r < pattern.length; r++) {
-                int count = pattern[r];
-                int y = topY + r * gapY;
-
-                int totalWidth = (count - 1) * gapX;
-                int startX = centerX - totalWidth / 2;
-
-                for (int c = 0; c < count; c++) {
-                    Skin skin = skins[(idx + c) % skins.length];
-                    BufferedImage img = BalloonSkins.of(skin);
-                    int x = startX + c * gapX;
-
-                    BalloonSprite b = new BalloonSprite(
-                            bank[idx % bank.length], img, x, y,
-                            houseAnchor.x, houseAnchor.y
-                    );
-                    // ★ 정방형(1:1) 보장
-                    b.w = s;
-                    b.h = s;
-
-                    balloons.add(b);
-                    idx++;
+            synchronized (sceneLock) { // 액티브 렌더 스레드가 그리는 중이면 끝날 때까지 대기
+                balloons.clear();
+                prefix.clear();
+                renderer.evictSprites(); // 스테이지가 바뀌면 이전 합성 스프라이트는 재사용 불가
+
+                Skin[] skins = new Skin[]{ Skin.PURPLE, Skin.YELLOW, Skin.PINK, Skin.ORANGE, Skin.GREEN };
+
+                int W = Math.max(getWidth(), 900);
+                int H = Math.max(getHeight(), 600);
+                int centerX = W / 2;
+
+                // 3-4-5-6-5-4-3 패턴
+                int[] pattern = {3, 4, 5, 6, 5, 4, 3};
+                int s = Math.max(68, Math.min(92, (int)(W * 0.07)));   // 한 변 길이
+                int gapX = (int)(s * 1.20);                             // 가로 간격
+                int gapY = (int)(s * 0.95);                             // 세로 간격
+                //다발의 맨 윗줄 Y (집 앵커에서 충분히 위로)
+                int topY = Math.max(110, houseAnchor.y - (gapY * (pattern.length + 1)));
+
+
+                String[] bank = {
+                        "도서관","고양이","운동장","한가람","바다빛","이야기","도전정신",
+                        "자다","인터넷","병원","전문가","초롱빛","노력하다","택시","집","나라",
+                        "달빛","별빛","산책","행복","용기","친구","추억","봄날","밤하늘"
+                };
+                int idx = 0;
+
+                for (int r = 0; r < pattern.length; r++) {
+                    int count = pattern[r];
+                    int y = topY + r * gapY;
+
+                    int totalWidth = (count - 1) * gapX;
+                    int startX = centerX - totalWidth / 2;
+
+                    for (int c = 0; c < count; c++) {
+                        Skin skin = skins[(idx + c) % skins.length];
+                        BufferedImage img = BalloonSkins.of(skin);
+                        int x = startX + c * gapX;
+
+                        BalloonSprite b = new BalloonSprite(
+                                bank[idx % bank.length], img, x, y,
+                                houseAnchor.x, houseAnchor.y
+                        );
+                        // ★ 정방형(1:1) 보장
+                        b.w = s;
+                        b.h = s;
+
+                        balloons.add(b);
+                        prefix.add(b, b.jamo); // 스폰 시 캐시된 자모열로 트라이 등록
+                        idx++;
+                    }
                 }
+                // ★ SINGLE 모드 규칙대로 아이템 4개를 배정(빨강 2, 파랑 2 / 값은 각자 ± 랜덤)
+                assignRandomItemsForSingleMode();
+                damage.markAll(); // 새 스테이지: 전체 다시 그림
             }
-            // ★ SINGLE 모드 규칙대로 아이템 4개를 배정(빨강 2, 파랑 2 / 값은 각자 ± 랜덤)
-            assignRandomItemsForSingleMode();
         }
 
         /** ★ SINGLE MODE: TIME(빨강) 2개, BALLOON(파랑) 2개를 중복 없이 랜덤 단어에 배정 */
@@ -472,23 +557,92 @@ public class GamePanel extends JPanel implements Showable {
 
         private void updateModel() { /* Day5-Static: 풍선 고정 */ }
 
+        /** 루프 고정 스텝(1/60초) */
+        void update(double dtSeconds) { updateModel(); }
+
+        /**
+         * 루프 프레임: 바뀐 영역이 있을 때만 그 합집합을 repaint(없으면 프레임 생략).
+         * 풍선이 움직이게 되면 alpha로 이전/현재 위치를 보간해 그린다(지금은 고정이라 미사용).
+         */
+        void render(double alpha) {
+            if (surface != null) damage.clear(); // 액티브 모드: 렌더 스레드가 매 프레임 전체를 그림
+            else damage.flush(this);
+        }
+
+        /** 액티브 렌더링으로 전환: 라벨들 대신 Canvas 하나를 깔고 토스트/오버레이 글자도 직접 그림 */
+        void useActiveRendering() {
+            frameStats = new FrameTimeStats("active", 600);
+            surface = new ActiveRenderSurface(this::paintActiveFrame, sceneLock, 60, this::fallbackToPassive);
+            removeAll();
+            add(surface, BorderLayout.CENTER);
+            revalidate();
+        }
+
+        /** BufferStrategy 실패 시 원래 JPanel 경로(라벨 + repaint)로 복귀 */
+        private void fallbackToPassive() {
+            if (surface == null) return;
+            surface.stop();
+            remove(surface);
+            surface = null;
+            frameStats = new FrameTimeStats("passive", 600);
+            add(wordLabel, BorderLayout.CENTER);
+            add(toastLabel, BorderLayout.SOUTH);
+            add(overlayLabel, BorderLayout.NORTH);
+            revalidate();
+            damage.markAll();
+        }
+
+        /** [렌더 스레드] 한 프레임 전체: 배경 → 장면 → 오버레이/토스트 글자 */
+        private void paintActiveFrame(Graphics2D g, int w, int h) {
+            // 배경은 부모 패널 크기 스케일 사본을 PlayField 위치만큼 당겨 찍음(패시브와 같은 그림, 같은 캐시)
+            BufferedImage bg = backgrounds.scaledFor(GamePanel.this.getWidth(), GamePanel.this.getHeight());
+            if (bg != null) {
+                g.drawImage(bg, -getX(), -getY(), null);
+            } else {
+                g.setColor(Color.BLACK);
+                g.fillRect(0, 0, w, h);
+            }
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            long t0 = System.nanoTime();
+            paintScene(g, null);
+            frameStats.record(System.nanoTime() - t0);
+
+            if (overlayLabel.isVisible()) drawCentered(g, overlayLabel, w, -1);
+            String toast = toastLabel.getText();
+            if (toast != null && !toast.isBlank()) drawCentered(g, toastLabel, w, h);
+        }
+
+        /** 라벨 글자를 가운데 정렬로 그림(bottom < 0이면 위쪽, 아니면 bottom 위쪽) */
+        private void drawCentered(Graphics2D g, JLabel label, int w, int bottom) {
+            g.setFont(label.getFont());
+            g.setColor(label.getForeground());
+            FontMetrics fm = g.getFontMetrics();
+            String text = label.getText();
+            int x = (w - fm.stringWidth(text)) / 2;
+            int y = (bottom < 0) ? fm.getAscent() + 4 : bottom - fm.getDescent() - 4;
+            g.drawString(text, x, y);
+        }
+
         /** 입력 텍스트와 같은 첫 PNG 풍선을 제거하고, 효과정보(PopResult)를 반환(없으면 null) */
         PopResult popFirstByText(String text) {
             if (text == null || text.isEmpty()) return null;
-            for (int i = 0; i < balloons.size(); i++) {
-                BalloonSprite b = balloons.get(i);
-                if (b.text.equalsIgnoreCase(text)) {
-                    // 제거 전에 이 단어에 배정된 효과를 가져온다(없으면 카테고리 없음 + 0 효과)
-                    PopResult effect = itemByWord.getOrDefault(
-                            b.text,
-                            new PopResult(null, 0)   // ★ 기본값: category=null, itemValue=0
-                    );
-
-                    balloons.remove(i);
-                    return effect;
-                }
+            BalloonSprite b;
+            synchronized (sceneLock) {
+                b = balloons.pop(text); // 해시 조회 + 툼스톤 제거(O(1))
+                if (b == null) return null;
+                prefix.remove(b);
             }
-            return null;
+
+            // 이 단어에 배정된 효과를 가져온다(없으면 카테고리 없음 + 0 효과)
+            PopResult effect = itemByWord.getOrDefault(
+                    b.text,
+                    new PopResult(null, 0)   // ★ 기본값: category=null, itemValue=0
+            );
+
+            // 사라질 풍선과 그 줄(실) 영역만 다시 그리도록 기록
+            damage.mark(b.bounds());
+            damage.mark(b.lineBounds());
+            return effect;
         }
 
 
@@ -497,14 +651,33 @@ public class GamePanel extends JPanel implements Showable {
 
         boolean isAllCleared() { return balloons.isEmpty(); }
 
+        /** 입력(자모열)이 바뀔 때: 트라이 커서를 바뀐 만큼만 이동, 후보가 바뀌었으면 다시 그림 */
+        void onInputChanged(char[] keys, int len) {
+            synchronized (sceneLock) {
+                prefix.setInput(keys, len);
+            }
+            if (prefix.version() != drawnPrefixVersion) {
+                drawnPrefixVersion = prefix.version();
+                damage.markAll(); // 후보 링이 켜지고 꺼지는 풍선들
+            }
+        }
+
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            final Graphics2D g2 = (Graphics2D) g.create();
+            if (surface != null) return; // 액티브 모드: Canvas가 덮고 있음
 
-            // 0) 배경 PNG
-            //if (bgImg != null) g2.drawImage(bgImg, 0, 0, getWidth(), getHeight(), null);
+            final Graphics2D g2 = (Graphics2D) g.create();
+            // 0) 배경 PNG는 부모(GamePanel.paintComponent)가 스케일 캐시로 그림
+            // 더티 영역 repaint일 때는 클립 밖의 풍선/줄은 건너뛴다
+            long t0 = System.nanoTime();
+            paintScene(g2, g2.getClipBounds());
+            frameStats.record(System.nanoTime() - t0);
+            g2.dispose();
+        }
 
+        /** 집 → 줄 → 풍선(+후보 링) → HUD. clip이 null이면 전부 그림 */
+        private void paintScene(Graphics2D g2, Rectangle clip) {
             // 1) 집
             if (houseImg != null) {
                 g2.drawImage(houseImg, houseRect.x, houseRect.y, houseRect.width, houseRect.height, null);
@@ -514,21 +687,28 @@ public class GamePanel extends JPanel implements Showable {
             for (var b : balloons) {
                 b.anchorX = houseAnchor.x; // 앵커 최신화
                 b.anchorY = houseAnchor.y;
-                renderer.renderLineOnly(g2, b);
+                if (clip == null || clip.intersects(b.lineBounds())) renderer.renderLineOnly(g2, b);
             }
 
 // 3) 그 다음에 모든 풍선 이미지+글자를 한 번에
             for (var b : balloons) {
-                renderer.renderBalloonOnly(g2, b);
+                if (clip == null || clip.intersects(b.bounds())) {
+                    renderer.renderBalloonOnly(g2, b);
+                    if (prefix.isCandidate(b)) renderer.renderHighlight(g2, b);
+                }
             }
 
 
             // 3) 좌상단 HUD: life 하트 + 타이머
             drawHUD(g2);
-
-            g2.dispose();
         }
 
+        /** HUD(하트/타이머)가 차지하는 좌상단 영역 */
+        private static final int HUD_X = 0, HUD_Y = 0, HUD_W = 280, HUD_H = 64;
+
+        /** 라이프/남은 시간이 바뀌었을 때: HUD 영역만 다음 프레임에 다시 그림 */
+        void markHudDirty() { damage.mark(HUD_X, HUD_Y, HUD_W, HUD_H); }
+
         /** 좌상단 하트/타이머 */
         private void drawHUD(Graphics2D g2) {
             g2.setFont(new Font("Dialog", Font.BOLD, 18));
@@ -554,19 +734,28 @@ public class GamePanel extends JPanel implements Showable {
         }
 
 
-        void stop() { if (frameTimer != null) frameTimer.stop(); }
+        void start() {
+            damage.markAll(); // 다시 보일 때 한 번은 전체를 그림
+            if (surface != null) surface.start();
+        }
+
+        void stop() {
+            if (surface != null) surface.stop();
+        }
 
         @Override public void invalidate() {
             super.invalidate();
             SwingUtilities.invokeLater(() -> {
                 if (getWidth() > 0) {
-                    layoutHouse();
-                    // 풍선들의 앵커 최신화
-                    for (var b : balloons) {
-                        b.anchorX = houseAnchor.x;
-                        b.anchorY = houseAnchor.y;
+                    synchronized (sceneLock) {
+                        layoutHouse();
+                        // 풍선들의 앵커 최신화
+                        for (var b : balloons) {
+                            b.anchorX = houseAnchor.x;
+                            b.anchorY = houseAnchor.y;
+                        }
                     }
-                    repaint();
+                    damage.markAll();
                 }
             });
         }
@@ -584,13 +773,18 @@ public class GamePanel extends JPanel implements Showable {
         this.stage = stage;
         this.timeLeft = t;
         this.timeLabel.setText("Time: " + t);
+        if (playField != null) playField.markHudDirty();
         applyStageBackground(stage); // ▼ [NEW] 배경 교체
     }
 
     // 결과 컨텍스트 → Result 화면
     private void showResult() {
         if (navigatedAway) return;
-        double accuracy   = 0.0;
+        // 키(자모) 단위 정확도: 입력한 키 중 그 순간 살아있는 단어의 접두사였던 비율(%)
+        long typedKeys    = playField.prefix.keysTyped();
+        double accuracy   = (typedKeys > 0)
+                ? ScoreCalculator.accuracy((int) playField.prefix.keysCorrect(), (int) typedKeys) * 100.0
+                : 0.0;
         int correctCount  = 0;
         int wrongCount    = 0;
 
@@ -619,12 +813,12 @@ public class GamePanel extends JPanel implements Showable {
         score = 0; scoreLabel.setText("Score: 0");
 
         if (playField != null) {
-            playField.balloons.clear();
+            playField.prefix.resetStats(); // 새 판: 키 정확도 통계도 처음부터
             playField.spawnInitialBalloons();
         }
 
         caretOn = true;
-        if (!tickTimer.isRunning()) tickTimer.start();
+        startCountdown();
         grabFocusSafely();
         showToast("Stage " + stage + " Start!", new Color(100, 200, 100));
     }
@@ -642,24 +836,19 @@ public class GamePanel extends JPanel implements Showable {
         lastCompletedStage = stage;
 
         if (stage >= 3) {
-            Timer t = new Timer(200, e -> showResult());
-            t.setRepeats(false);
-            t.start();
+            loop.schedule(200, this::showResult);
         } else {
-            Timer t1 = new Timer(1250, e -> {
+            loop.schedule(1250, () -> {
                 showOverlay("Stage " + (stage + 1) + " Ready...", new Color(255, 230, 140));
-                Timer t2 = new Timer(1250, ev -> startNextStage());
-                t2.setRepeats(false);
-                t2.start();
+                loop.schedule(1250, this::startNextStage);
             });
-            t1.setRepeats(false);
-            t1.start();
         }
     }
 
     private void onStageFailed() {
         showOverlay("✖ FAILED!  (Stage " + stage + ")", new Color(230, 90, 90));
-        new Timer(500, e -> showResult()).start();
+        stopCountdown();                        // 실패 후에는 시간이 더 흐르지 않음
+        loop.schedule(500, this::showResult);   // 한 번만(예전엔 반복 타이머라 계속 호출됐음)
     }
 
     private void startNextStage() {
@@ -671,12 +860,11 @@ public class GamePanel extends JPanel implements Showable {
         stage++; setStage(stage);
 
         if (playField != null) {
-            playField.balloons.clear();
             playField.spawnInitialBalloons();
         }
 
         caretOn = true;
-        if (!tickTimer.isRunning()) tickTimer.start();
+        startCountdown();
         grabFocusSafely();
 
         showToast("Stage " + stage + " Start!", new Color(100, 200, 100));
@@ -686,11 +874,59 @@ public class GamePanel extends JPanel implements Showable {
         overlayLabel.setText(text);
         overlayLabel.setForeground(color);
         overlayLabel.setVisible(true);
-        overlayTimer.restart();
+        if (overlayTask != null) overlayTask.cancel();
+        overlayTask = loop.schedule(1200, () -> overlayLabel.setVisible(false));
     }
 
     private void showRanking() { showResult(); }
 
+    /**
+     * 입력 변화마다 자모 단위 접두사 매칭 갱신(+ 자동 팝 모드)
+     * - 일반 편집(확정 글자 지우기, setText 등): 문서 리스너
+     * - IME 조합/확정: inputField.processInputMethodEvent가 이벤트를 문서에 다 반영한 뒤 한 번
+     *   (조합 글자는 문서에 들어가 있으므로 문서 전체 = 확정 글자 + 조합 중 글자).
+     *   반영 도중의 삭제/삽입 이벤트(예: "도" 지우고 "돗" 넣기)는 applyingIme로 건너뛴다
+     *   → 중간 상태로 진행도가 흔들리거나 타수가 두 번 세지지 않음.
+     */
+    private void setupPrefixTracking() {
+        inputField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e)  { onInputChanged(e.getDocument()); }
+            @Override public void removeUpdate(DocumentEvent e)  { onInputChanged(e.getDocument()); }
+            @Override public void changedUpdate(DocumentEvent e) { /* 속성 변경은 무시 */ }
+        });
+    }
+
+    private void onInputChanged(Document doc) {
+        if (applyingIme) return; // IME 이벤트 처리가 끝나면 readInput이 한 번 부름
+        readInput(doc);
+    }
+
+    /** 문서 전체(조합 중 글자 포함)를 자모열로 분해해 매칭 갱신 */
+    private void readInput(Document doc) {
+        try {
+            doc.getText(0, doc.getLength(), inputSeg);
+        } catch (BadLocationException e) {
+            return;
+        }
+        ensureJamoCapacity(inputSeg.length() * HangulJamo.MAX_PER_CHAR);
+        int n = HangulJamo.decompose(inputSeg, 0, inputSeg.length(), jamoBuf, 0);
+        onJamoInput(n);
+    }
+
+    private void ensureJamoCapacity(int needed) {
+        if (jamoBuf.length < needed) jamoBuf = java.util.Arrays.copyOf(jamoBuf, Math.max(needed, jamoBuf.length * 2));
+    }
+
+    private void onJamoInput(int len) {
+        playField.onInputChanged(jamoBuf, len);
+        // 문서 리스너 안에서는 문서를 고칠 수 없으므로 제출은 다음 이벤트로 미룸
+        if (AUTO_POP_UNIQUE && playField.prefix.hasUniqueExactMatch()) {
+            SwingUtilities.invokeLater(() -> {
+                if (playField.prefix.hasUniqueExactMatch()) onEnter();
+            });
+        }
+    }
+
     // setupKeyBindings()는 엔터/ESC/백스페이스 정도만 남기고,
 // 글자 입력 바인딩은 전부 제거하세요(IME가 처리).
     private void setupKeyBindings() {
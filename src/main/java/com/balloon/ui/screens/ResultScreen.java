@@ -2,11 +2,14 @@ package com.balloon.ui.screens;                                      // 결과 
 
 import com.balloon.core.ScreenId;                                    // 화면 식별자(enum)
 import com.balloon.core.ScreenRouter;                                // 라우터
+import com.balloon.data.BinaryRankingRepository;                     // 랭킹 저장소(점수 분포)
+import com.balloon.data.ScoreHistogram;                              // 점수 위치(백분위/순위)
 import com.balloon.ranking.RankingCSV;                               // CSV 유틸
 import com.balloon.ranking.RankingEntry;                             // DTO
 import com.balloon.ui.theme.Theme;                                   // 테마(색/폰트)
 import javax.swing.*;                                                // 스윙 컴포넌트
 import java.awt.*;                                                   // 레이아웃/색
+import java.util.concurrent.CompletableFuture;                       // 백그라운드 계산
 // 결과 -> 랭킹 저장/이동 화면
 
 public class ResultScreen extends JPanel {                            // 패널 상속
@@ -18,6 +21,8 @@ public class ResultScreen extends JPanel {                            // 패널
     private final JLabel lScore = new JLabel("Score: 0");             // 점수 라벨
     private final JLabel lAcc   = new JLabel("Accuracy: 0.00%");      // 정확도 라벨
     private final JLabel lTime  = new JLabel("Time Left: 0s");        // 시간 라벨
+    private final JLabel lRank  = new JLabel(" ");                    // 전체 기록 중 위치 라벨
+    private int standingSeq = 0;                                      // 늦게 끝난 옛 위치 계산은 버림
 
     public ResultScreen(ScreenRouter router) {                        // 생성자
         this.router = router;                                         // 라우터 저장
@@ -29,14 +34,16 @@ public class ResultScreen extends JPanel {                            // 패널
         title.setHorizontalAlignment(SwingConstants.CENTER);           // 가운데 정렬
         add(title, BorderLayout.NORTH);                               // 상단 배치
 
-        JPanel center = new JPanel(new GridLayout(3,1,8,8));          // 중간 정보 영역
+        JPanel center = new JPanel(new GridLayout(4,1,8,8));          // 중간 정보 영역
         center.setOpaque(false);                                      // 부모 배경 사용
         lScore.setFont(Theme.h2());                                   // 점수 폰트
         lAcc.setFont(Theme.h2());                                     // 정확도 폰트
         lTime.setFont(Theme.h2());                                    // 시간 폰트
+        lRank.setFont(Theme.h2());                                    // 위치 폰트
         center.add(lScore);                                           // 점수 라벨 추가
         center.add(lAcc);                                             // 정확도 라벨 추가
         center.add(lTime);                                            // 시간 라벨 추가
+        center.add(lRank);                                            // 위치 라벨 추가
         add(center, BorderLayout.CENTER);                             // 중앙 배치
 
         JPanel bottom = new JPanel(new FlowLayout(FlowLayout.CENTER,  // 하단 버튼 영역
@@ -76,23 +83,38 @@ public class ResultScreen extends JPanel {                            // 패널
                     timeLeft,                                          //   남은 시간
                     System.currentTimeMillis()                         //   현재 시각
             );                                                         //  DTO 끝
-            RankingCSV.append(entry);                                  //  CSV에 추가
-            System.out.println("[RankingCSV] saved: " + entry.name           //   (로그)
-                    + ", score=" + entry.score + ", acc=" + entry.accuracy);
-
-            JOptionPane.showMessageDialog(this,                               // 4) 저장 완료 안내
-                    "랭킹에 저장되었습니다!",
-                    "완료",
-                    JOptionPane.INFORMATION_MESSAGE);
-
-            btnRanking.setEnabled(true);                                      // 5) 버튼도 활성화(보조)
-            router.show(ScreenId.RANKING);                                //  이동 버튼 활성화
+            btnSave.setEnabled(false);                                 //  저장 끝날 때까지 중복 클릭 방지
+            RankingCSV.append(entry)                                   //  백그라운드 저장(즉시 반환)
+                    .whenComplete((ok, err) -> SwingUtilities.invokeLater( //  완료 콜백은 EDT에서
+                            () -> onSaved(entry, err, btnSave, btnRanking)));
         });                                                            // 저장 리스너 끝
 
         btnRanking.addActionListener(e ->                              // 랭킹 이동 버튼
                 router.show(ScreenId.RANKING));                        //  랭킹 화면으로 전환
     }                                                                  // 생성자 끝
 
+    private void onSaved(RankingEntry entry, Throwable err,            // 저장 완료 콜백(EDT)
+                         JButton btnSave, JButton btnRanking) {
+        if (err != null) {                                             // 실패
+            btnSave.setEnabled(true);                                  //  다시 시도 가능
+            JOptionPane.showMessageDialog(this,
+                    "랭킹 저장에 실패했습니다: " + err.getMessage(), "오류",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        System.out.println("[Ranking] saved: " + entry.name            //  (로그)
+                + ", score=" + entry.score + ", acc=" + entry.accuracy);
+
+        JOptionPane.showMessageDialog(this,                            // 저장 완료 안내
+                "랭킹에 저장되었습니다!",
+                "완료",
+                JOptionPane.INFORMATION_MESSAGE);
+
+        btnSave.setEnabled(true);                                      // 다음 저장 허용
+        btnRanking.setEnabled(true);                                   // 버튼도 활성화(보조)
+        router.show(ScreenId.RANKING);                                 // 랭킹 화면으로
+    }                                                                  // onSaved 끝
+
     public void setResult(int score, double accuracy, int timeLeft) {  // 외부에서 결과 주입
         this.score = score;                                            // 점수 저장
         this.accuracy = accuracy;                                      // 정확도 저장
@@ -100,5 +122,26 @@ public class ResultScreen extends JPanel {                            // 패널
         lScore.setText("Score: " + score);                             // 라벨 반영
         lAcc.setText(String.format("Accuracy: %.2f%%", accuracy));     // 라벨 반영
         lTime.setText("Time Left: " + timeLeft + "s");                 // 라벨 반영
+
+        int seq = ++standingSeq;                                       // 이번 결과 번호
+        lRank.setText("Rank: ...");                                    // 계산 중 표시
+        CompletableFuture                                              // 전체 기록 중 위치는 EDT 밖에서
+                .supplyAsync(() -> BinaryRankingRepository             //  (저장소 잠금 → 열기/복구나
+                        .getInstance().scoreStanding(score))           //   RankingWriter 저장을 기다릴 수 있음)
+                .whenComplete((st, err) -> SwingUtilities.invokeLater( //  반영은 EDT에서
+                        () -> showStanding(seq, st, err)));
     }                                                                  // setResult 끝
+
+    private void showStanding(int seq, ScoreHistogram.Standing st,     // 위치 계산 완료(EDT)
+                              Throwable err) {
+        if (seq != standingSeq) return;                                // 그 사이 다음 판 결과가 들어옴
+        if (err != null || st == null) {                               // 실패하면 비워 둠
+            lRank.setText(" ");
+            return;
+        }
+        lRank.setText(st.total == 0                                    // 라벨 반영
+                ? "Rank: first record!"                                //  첫 기록
+                : String.format("Rank: #%,d of %,d (beat %.1f%%)",     //  순위/전체/이긴 비율
+                        st.rank, st.total + 1, st.beatPercent));
+    }                                                                  // showStanding 끝
 }                                                                      // 클래스 끝
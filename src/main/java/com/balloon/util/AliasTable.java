@@ -0,0 +1,61 @@
+package com.balloon.util;
+
+/**
+ * AliasTable
+ * - 정수 가중치 n개 중 하나를 가중치 비율대로 뽑는 Walker/Vose 별칭 테이블.
+ * - 만들 때 한 번 O(n)으로 "칸 i: 확률 threshold[i]로 i, 아니면 alias[i]" 표를 짜 두고,
+ *   뽑을 때는 칸 하나 고르기 + 동전 한 번 → 후보 수와 무관한 O(1), 객체 생성 없음.
+ * - 난수는 호출자가 64비트 하나로 넘긴다(sample(bits)): 상위 32비트로 칸, 하위 32비트로 동전.
+ *   → ThreadLocalRandom이든 세션 시드 RngStream이든 같은 표를 그대로 쓴다.
+ * - 만든 뒤에는 읽기만 하므로 여러 스레드에서 같이 써도 된다.
+ */
+public final class AliasTable {
+
+    private static final double ONE = 4294967296.0; // 2^32 (동전 하위 32비트 범위)
+
+    private final long[] threshold; // 하위 32비트 < threshold[i] 이면 i (2^32면 항상 i)
+    private final int[] alias;
+
+    /** @param weights 0 이상 가중치(합이 0보다 커야 함) */
+    public AliasTable(int[] weights) {
+        int n = weights.length;
+        if (n == 0) throw new IllegalArgumentException("empty weights");
+        long total = 0;
+        for (int w : weights) {
+            if (w < 0) throw new IllegalArgumentException("negative weight: " + w);
+            total += w;
+        }
+        if (total == 0) throw new IllegalArgumentException("all weights are zero");
+
+        threshold = new long[n];
+        alias = new int[n];
+
+        // 가중치 × n 을 정수로 그대로 다룬다(평균 칸 높이 = total) → 반올림 누적 없음
+        long[] p = new long[n];
+        int[] small = new int[n], large = new int[n];
+        int ns = 0, nl = 0;
+        for (int i = 0; i < n; i++) {
+            p[i] = (long) weights[i] * n;
+            if (p[i] < total) small[ns++] = i; else large[nl++] = i;
+        }
+        while (ns > 0 && nl > 0) {
+            int s = small[--ns];
+            int l = large[--nl];
+            threshold[s] = (long) (p[s] * ONE / total);
+            alias[s] = l;
+            p[l] -= total - p[s];          // l이 s 칸의 나머지를 채움
+            if (p[l] < total) small[ns++] = l; else large[nl++] = l;
+        }
+        // 남은 칸은 정확히 꽉 찬 칸(정수 계산이라 오차 없음)
+        while (nl > 0) { int l = large[--nl]; threshold[l] = (long) ONE; alias[l] = l; }
+        while (ns > 0) { int s = small[--ns]; threshold[s] = (long) ONE; alias[s] = s; }
+    }
+
+    public int size() { return alias.length; }
+
+    /** 64비트 난수 하나로 번호 하나(0 ~ size-1) */
+    public int sample(long bits) {
+        int i = (int) (((bits >>> 32) * alias.length) >>> 32); // 상위 32비트 → [0, n) (나눗셈 없음)
+        return ((bits & 0xFFFFFFFFL) < threshold[i]) ? i : alias[i];
+    }
+}
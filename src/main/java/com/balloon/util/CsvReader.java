@@ -0,0 +1,333 @@
+package com.balloon.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CsvReader
+ * - UTF-8 CSV를 ByteBuffer(보통 mmap한 파일) 위에서 한 행씩 훑는 스트리밍 리더.
+ * - next()는 필드 경계(시작/끝 오프셋)만 기록한다 → 행마다 String/String[]을 만들지 않는다.
+ * - 숫자 필드는 바이트에서 바로 파싱(getInt/getLong/getDouble), 문자열은 필요한 필드만 getString()으로.
+ * - RFC 4180 따옴표 규칙: "..." 안의 쉼표/줄바꿈 허용, "" 는 " 한 글자.
+ * - 잘못된 값은 예외 대신 error()로 알린다(0으로 채우지 않음):
+ *     while (r.next()) {
+ *         int score = r.getInt(1);
+ *         if (r.error() != null) { ... r.line() 행 건너뜀 ... continue; }
+ *     }
+ * - 스레드 안전하지 않음(리더 하나를 한 스레드가 씀).
+ */
+public final class CsvReader {
+
+    private static final int MAX_FIELDS = 64;
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+    };
+
+    private final ByteBuffer buf;
+    private final int limit;
+    private int pos;
+
+    // 현재 행의 필드: [start, end) 바이트 범위, 따옴표로 감쌌는지
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private boolean[] quoted = new boolean[8];
+    private int fields = 0;
+
+    private int line = 0;     // 현재 행이 시작한 줄 번호(1부터)
+    private int nextLine = 1;
+    private String error;     // 현재 행에서 처음 발견한 문제(없으면 null)
+    private byte[] scratch = new byte[64];
+
+    public CsvReader(ByteBuffer data) {
+        this.buf = data;
+        this.pos = data.position();
+        this.limit = data.limit();
+        // UTF-8 BOM 건너뜀
+        if (limit - pos >= 3 && (buf.get(pos) & 0xFF) == 0xEF
+                && (buf.get(pos + 1) & 0xFF) == 0xBB && (buf.get(pos + 2) & 0xFF) == 0xBF) {
+            pos += 3;
+        }
+    }
+
+    /** 파일 전체를 읽기 전용으로 mmap해서 연다(빈 파일도 가능) */
+    public static CsvReader open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CsvReader(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size())); // 매핑은 채널을 닫아도 유효
+        }
+    }
+
+    /**
+     * 다음 행으로 이동. 빈 줄은 건너뛴다.
+     * @return 행이 있으면 true, 끝이면 false
+     */
+    public boolean next() {
+        error = null;
+        fields = 0;
+        while (pos < limit) {
+            line = nextLine;
+            byte b = buf.get(pos);
+            if (b == '\n') { pos++; nextLine++; continue; }
+            if (b == '\r') { pos++; continue; }
+            parseRow();
+            return true;
+        }
+        return false;
+    }
+
+    /** 현재 행의 필드 수 */
+    public int fieldCount() { return fields; }
+
+    /** 현재 행이 시작한 줄 번호(1부터, 따옴표 안 줄바꿈도 센다) */
+    public int line() { return line; }
+
+    /** 현재 행의 첫 번째 문제(형식 오류 또는 숫자 변환 실패). 없으면 null */
+    public String error() { return error; }
+
+    /** 필드가 비었는지(공백만 있어도 빈 것으로 봄) */
+    public boolean isEmpty(int i) {
+        if (i >= fields) return true;
+        int s = trimStart(i), e = trimEnd(i, s);
+        return s >= e;
+    }
+
+    /** 필드가 (부호 없는) 숫자로만 되어 있는지 — 숫자/문자 두 형식을 받는 칸 구분용 */
+    public boolean isDigits(int i) {
+        if (i >= fields) return false;
+        int s = trimStart(i), e = trimEnd(i, s);
+        if (s >= e) return false;
+        for (int p = s; p < e; p++) {
+            byte b = buf.get(p);
+            if (b < '0' || b > '9') return false;
+        }
+        return true;
+    }
+
+    /** 호출자가 값 검증에 실패한 행을 오류로 표시(이미 오류가 있으면 유지) */
+    public void reject(String why) {
+        if (error == null) error = why;
+    }
+
+    /** 필드 i를 정수로. 실패하면 error()를 남기고 0 */
+    public int getInt(int i) {
+        long v = getLong(i);
+        if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+            return fail(i, "int out of range");
+        }
+        return (int) v;
+    }
+
+    /** 필드 i를 long으로. 실패하면 error()를 남기고 0 */
+    public long getLong(int i) {
+        if (i >= fields) return fail(i, "missing");
+        int p = trimStart(i), e = trimEnd(i, p);
+        if (p >= e) return fail(i, "empty");
+        boolean neg = false;
+        byte c = buf.get(p);
+        if (c == '-' || c == '+') { neg = (c == '-'); p++; }
+        if (p >= e) return fail(i, "not a number");
+        long v = 0;
+        for (; p < e; p++) {
+            int d = buf.get(p) - '0';
+            if (d < 0 || d > 9) return fail(i, "not a number");
+            if (v > (Long.MAX_VALUE - d) / 10) return fail(i, "long out of range");
+            v = v * 10 + d;
+        }
+        return neg ? -v : v;
+    }
+
+    /**
+     * 필드 i를 실수로. 실패하면 error()를 남기고 0.
+     * 유효숫자 15자리·10^±22 이내(랭킹 데이터는 전부 여기)면 바이트에서 바로 정확히 계산,
+     * 그 밖의 드문 형태만 Double.parseDouble로 넘긴다.
+     */
+    public double getDouble(int i) {
+        if (i >= fields) return fail(i, "missing");
+        int p = trimStart(i), e = trimEnd(i, p);
+        if (p >= e) return fail(i, "empty");
+        int begin = p;
+        boolean neg = false;
+        byte c = buf.get(p);
+        if (c == '-' || c == '+') { neg = (c == '-'); p++; }
+
+        long mant = 0;
+        int digits = 0, scale = 0, exp = 0;
+        boolean any = false, dot = false;
+        for (; p < e; p++) {
+            c = buf.get(p);
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (mant == 0 && c == '0') { if (dot) scale++; continue; } // 앞자리 0
+                if (digits < 18) { mant = mant * 10 + (c - '0'); digits++; if (dot) scale++; }
+                else if (!dot) exp++;                                      // 버린 자리(느린 경로로 감)
+                else { digits++; }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!any) return fail(i, "not a number");
+        if (p < e) {
+            c = buf.get(p);
+            if (c != 'e' && c != 'E') return fail(i, "not a number");
+            p++;
+            boolean eneg = false;
+            if (p < e && (buf.get(p) == '-' || buf.get(p) == '+')) { eneg = buf.get(p) == '-'; p++; }
+            if (p >= e) return fail(i, "not a number");
+            int x = 0;
+            for (; p < e; p++) {
+                int d = buf.get(p) - '0';
+                if (d < 0 || d > 9) return fail(i, "not a number");
+                if (x < 10_000) x = x * 10 + d;
+            }
+            exp += eneg ? -x : x;
+        }
+
+        int pow = exp - scale;
+        if (digits <= 15 && pow >= -22 && pow <= 22) {
+            // 빠른 경로: 가수와 10^|pow| 모두 double로 정확 → 곱/나눗셈 한 번이라 올바르게 반올림됨
+            double v = (double) mant;
+            if (pow < 0) v /= tenTo(-pow);
+            else if (pow > 0) v *= tenTo(pow);
+            return neg ? -v : v;
+        }
+        try {
+            return Double.parseDouble(decode(begin, e, false));
+        } catch (NumberFormatException ex) {
+            return fail(i, "not a number");
+        }
+    }
+
+    /** 필드 i를 문자열로(좌우 공백 제거, 따옴표 해제). 없으면 "" */
+    public String getString(int i) {
+        if (i >= fields) return "";
+        int s = trimStart(i), e = trimEnd(i, s);
+        return decode(s, e, quoted[i]);
+    }
+
+    // ---------- 내부 ----------
+
+    private void parseRow() {
+        while (true) {
+            if (fields == starts.length) grow();
+            if (fields == MAX_FIELDS) { error = "too many fields"; skipLine(); return; }
+
+            // 필드 앞 공백은 따옴표 판단 전에 건너뜀(", \"a,b\"" 같은 모양 허용)
+            int p = pos;
+            while (p < limit && buf.get(p) == ' ') p++;
+            if (p < limit && buf.get(p) == '"') {
+                int s = p + 1;
+                p = s;
+                while (true) {
+                    if (p >= limit) {
+                        setField(s, p, true);
+                        if (error == null) error = "unterminated quote";
+                        pos = limit;
+                        return;
+                    }
+                    byte b = buf.get(p);
+                    if (b == '"') {
+                        if (p + 1 < limit && buf.get(p + 1) == '"') { p += 2; continue; } // "" → "
+                        break;
+                    }
+                    if (b == '\n') nextLine++;
+                    p++;
+                }
+                setField(s, p, true);
+                p++; // 닫는 따옴표
+                while (p < limit && buf.get(p) == ' ') p++;
+                if (p < limit && buf.get(p) != ',' && buf.get(p) != '\n' && buf.get(p) != '\r') {
+                    if (error == null) error = "text after closing quote in field " + (fields - 1);
+                    while (p < limit && buf.get(p) != ',' && buf.get(p) != '\n') p++;
+                }
+            } else {
+                int s = pos;
+                p = s;
+                while (p < limit) {
+                    byte b = buf.get(p);
+                    if (b == ',' || b == '\n') break;
+                    if (b == '"' && error == null) error = "stray quote in field " + fields;
+                    p++;
+                }
+                int e = p;
+                if (e > s && buf.get(e - 1) == '\r') e--;
+                setField(s, e, false);
+            }
+
+            if (p >= limit) { pos = limit; return; }
+            byte sep = buf.get(p);
+            if (sep == '\r') { p++; if (p < limit && buf.get(p) == '\n') { p++; } nextLine++; pos = p; return; }
+            if (sep == '\n') { pos = p + 1; nextLine++; return; }
+            pos = p + 1; // ','
+        }
+    }
+
+    private void setField(int s, int e, boolean q) {
+        starts[fields] = s;
+        ends[fields] = e;
+        quoted[fields] = q;
+        fields++;
+    }
+
+    private void skipLine() {
+        while (pos < limit && buf.get(pos) != '\n') pos++;
+        if (pos < limit) { pos++; nextLine++; }
+    }
+
+    private void grow() {
+        int n = starts.length * 2;
+        starts = java.util.Arrays.copyOf(starts, n);
+        ends = java.util.Arrays.copyOf(ends, n);
+        quoted = java.util.Arrays.copyOf(quoted, n);
+    }
+
+    private int trimStart(int i) {
+        int s = starts[i], e = ends[i];
+        if (quoted[i]) return s;
+        while (s < e && blank(buf.get(s))) s++;
+        return s;
+    }
+
+    private int trimEnd(int i, int s) {
+        int e = ends[i];
+        if (quoted[i]) return e;
+        while (e > s && blank(buf.get(e - 1))) e--;
+        return e;
+    }
+
+    /**
+     * 앞뒤에서 잘라낼 공백/제어 문자인지. byte는 부호가 있어 UTF-8의 한글 바이트(0x80 이상)가 음수가 되므로
+     * 부호 없이 비교해야 한다(그냥 b <= ' '이면 한글 이름 필드가 통째로 잘려 빈 문자열이 됨).
+     */
+    private static boolean blank(byte b) {
+        return (b & 0xFF) <= ' ';
+    }
+
+    /** 바이트 범위 → String(따옴표 필드면 "" 를 " 로) */
+    private String decode(int s, int e, boolean unescape) {
+        int n = e - s;
+        if (scratch.length < n) scratch = new byte[Math.max(n, scratch.length * 2)];
+        int k = 0;
+        for (int p = s; p < e; p++) {
+            byte b = buf.get(p);
+            scratch[k++] = b;
+            if (unescape && b == '"' && p + 1 < e && buf.get(p + 1) == '"') p++;
+        }
+        return new String(scratch, 0, k, StandardCharsets.UTF_8);
+    }
+
+    private static double tenTo(int n) {
+        return (n < POW10.length) ? (double) POW10[n] : 1e15 * POW10[n - 15];
+    }
+
+    private int fail(int i, String why) {
+        if (error == null) error = why + " in field " + i;
+        return 0;
+    }
+}
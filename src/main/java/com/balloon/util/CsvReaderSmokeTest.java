@@ -0,0 +1,70 @@
+package com.balloon.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CsvReader 점검용 실행 클래스(main).
+ * - 한글 이름(앞뒤 공백 포함), 따옴표 필드(쉼표/줄바꿈/"" 포함), BOM, 숫자/잘못된 값 알림을 확인한다.
+ * - 틀리면 내용을 찍고 종료 코드 1.
+ */
+public class CsvReaderSmokeTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        String csv = "\uFEFFname,score,accuracy,timeLeft,playedAt\n"
+                + "홍길동,120,93.5,12,1700000000000\n"
+                + "  김철수  , 80 ,71.25, 3 ,2024-11-18 10:00:00\n"
+                + "\"이, 영희\",95,100,0,\n"
+                + "\"따옴표 \"\"풍선\"\" 왕\",7,1e2,1,\n"
+                + "\"여러\n줄 이름\",1,0.5,0,\n"
+                + "박민수,abc,50,0,\n";
+        CsvReader r = new CsvReader(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+
+        System.out.println("=== 헤더(BOM 제거) ===");
+        check(r.next(), "header row");
+        check("name".equals(r.getString(0)), "BOM stripped: [" + r.getString(0) + "]");
+
+        System.out.println("=== 한글 이름 ===");
+        check(r.next(), "row 2");
+        check("홍길동".equals(r.getString(0)), "korean name: [" + r.getString(0) + "]");
+        check(r.getInt(1) == 120 && r.getDouble(2) == 93.5 && r.getInt(3) == 12, "row 2 numbers");
+        check(r.isDigits(4) && r.getLong(4) == 1700000000000L, "row 2 epoch");
+        check(r.error() == null, "row 2 error: " + r.error());
+
+        System.out.println("=== 앞뒤 공백(한글 바이트는 남김) ===");
+        check(r.next(), "row 3");
+        check("김철수".equals(r.getString(0)), "trimmed korean name: [" + r.getString(0) + "]");
+        check(r.getInt(1) == 80 && r.getDouble(2) == 71.25 && r.getInt(3) == 3, "row 3 numbers");
+        check(!r.isDigits(4) && "2024-11-18 10:00:00".equals(r.getString(4)), "row 3 playedAt: [" + r.getString(4) + "]");
+
+        System.out.println("=== 따옴표 필드 ===");
+        check(r.next(), "row 4");
+        check("이, 영희".equals(r.getString(0)), "quoted comma: [" + r.getString(0) + "]");
+        check(r.getInt(1) == 95 && r.isEmpty(4), "row 4 score / empty playedAt");
+        check(r.next(), "row 5");
+        check("따옴표 \"풍선\" 왕".equals(r.getString(0)), "escaped quotes: [" + r.getString(0) + "]");
+        check(r.getDouble(2) == 100.0, "exponent: " + r.getDouble(2));
+        check(r.next(), "row 6");
+        check("여러\n줄 이름".equals(r.getString(0)), "quoted newline: [" + r.getString(0) + "]");
+        check(r.line() == 6, "line of multi-line row: " + r.line());
+
+        System.out.println("=== 잘못된 숫자는 error()로 ===");
+        check(r.next(), "row 8");
+        check("박민수".equals(r.getString(0)), "row 8 name");
+        r.getInt(1);
+        check(r.error() != null, "bad score reported");
+        check(!r.next(), "end of input");
+
+        System.out.println(failures == 0 ? "OK" : failures + " FAILED");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            failures++;
+            System.out.println("  FAIL " + what);
+        }
+    }
+}
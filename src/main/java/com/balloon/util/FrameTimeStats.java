@@ -0,0 +1,60 @@
+package com.balloon.util;
+
+import java.util.Arrays;
+
+/**
+ * FrameTimeStats
+ * - 최근 N 프레임의 그리기 시간(ns)을 원형 버퍼에 모아 p50/p99 같은 백분위를 계산한다.
+ * - 프레임 간격이 아니라 한 프레임을 그리는 데 걸린 시간을 잰다 → 패시브(입력이 있을 때만 repaint)와
+ *   액티브(60fps 플립)처럼 그리는 빈도가 다른 경로도 같은 값으로 비교할 수 있다.
+ * - 평균만 보면 가끔 튀는 프레임(끊김)이 묻히므로 p99를 같이 본다.
+ * - 렌더 스레드가 기록하고 EDT가 읽을 수 있게 synchronized.
+ */
+public final class FrameTimeStats {
+
+    private final String name;
+    private final long[] samples;
+    private int next = 0;
+    private int count = 0;
+    private long total = 0; // 버퍼에서 밀려난 것까지 포함한 누적 프레임 수
+
+    public FrameTimeStats(String name, int capacity) {
+        this.name = name;
+        this.samples = new long[Math.max(16, capacity)];
+    }
+
+    /** 프레임 하나의 그리기 시간 기록 */
+    public synchronized void record(long frameNanos) {
+        samples[next] = frameNanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+        total++;
+    }
+
+    /** 백분위(0~100) 그리기 시간(ms). 샘플이 없으면 0 */
+    public synchronized double percentileMillis(double p) {
+        if (count == 0) return 0.0;
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(p / 100.0 * count) - 1;
+        idx = Math.max(0, Math.min(count - 1, idx));
+        return sorted[idx] / 1e6;
+    }
+
+    public double p50Millis() { return percentileMillis(50); }
+
+    public double p99Millis() { return percentileMillis(99); }
+
+    public synchronized long totalFrames() { return total; }
+
+    public synchronized void reset() {
+        next = 0;
+        count = 0;
+        total = 0;
+    }
+
+    public String summary() {
+        return String.format("[%s] frames=%d paint p50=%.2fms p99=%.2fms",
+                name, totalFrames(), p50Millis(), p99Millis());
+    }
+}
@@ -0,0 +1,149 @@
+package com.balloon.util;
+
+import javax.swing.Timer;
+
+/**
+ * GameLoop
+ * - 고정 시뮬레이션 스텝(기본 60Hz) + 보간 렌더링 게임 루프.
+ * - 구동은 Swing Timer 하나(EDT)에서 하지만, 실제 경과 시간은 System.nanoTime()으로 재서
+ *   누적기(accumulator)에 쌓고 스텝 단위로 update()를 돌린다 → 타이머 지연/합치기(coalesce)가 있어도
+ *   시뮬레이션 시간은 밀리지 않는다.
+ * - render(alpha)의 alpha(0~1)는 "다음 스텝까지 얼마나 왔는가" → 움직이는 물체를 이전/현재 위치 사이로 보간.
+ * - 지연 작업(토스트 지우기, 스테이지 전환, 1초 카운트다운)은 TimingWheel에 틱 단위로 예약한다.
+ *   → 작업마다 javax.swing.Timer 객체를 만들지 않는다.
+ * - 실제 프레임 간격(평균/최대)을 기록한다.
+ */
+public final class GameLoop {
+
+    /** 루프가 매 스텝/프레임마다 부르는 콜백 */
+    public interface Hooks {
+        /** 고정 스텝 한 번(dtSeconds = 1 / stepsPerSecond) */
+        void update(double dtSeconds);
+
+        /** 프레임 그리기. alpha = 남은 누적 시간 / 스텝 길이 */
+        void render(double alpha);
+    }
+
+    /** 창 이동/디버거 정지 등으로 한 번에 너무 오래 멈췄을 때 따라잡을 최대 시간 */
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private final int stepsPerSecond;
+    private final long stepNanos;
+    private final double stepSeconds;
+    private final Hooks hooks;
+    private final Timer pulse;
+    private final TimingWheel wheel = new TimingWheel(256);
+
+    private boolean running = false;
+    private long lastNanos;
+    private long accumulator;
+    private long tick = 0;
+
+    // 프레임 통계
+    private long frames;
+    private long frameNanosSum;
+    private long frameNanosMax;
+    private long lastFrameNanos;
+    private long updates;
+
+    public GameLoop(int stepsPerSecond, Hooks hooks) {
+        this.stepsPerSecond = Math.max(1, stepsPerSecond);
+        this.stepNanos = 1_000_000_000L / this.stepsPerSecond;
+        this.stepSeconds = 1.0 / this.stepsPerSecond;
+        this.hooks = hooks;
+
+        // 스텝 길이의 절반 간격으로 깨워서 스텝 경계를 크게 놓치지 않게 함
+        int pulseMs = (int) Math.max(1, stepNanos / 2_000_000L);
+        this.pulse = new Timer(pulseMs, e -> onPulse());
+        this.pulse.setCoalesce(true);
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        lastNanos = System.nanoTime();
+        accumulator = 0;
+        pulse.start();
+    }
+
+    /** 루프 정지. 예약된 작업은 남아 있다가 다시 start()하면 이어서 진행 */
+    public void stop() {
+        if (!running) return;
+        running = false;
+        pulse.stop();
+    }
+
+    public boolean isRunning() { return running; }
+
+    /** delayMillis 뒤 한 번 실행(EDT, 루프가 도는 동안만 시간이 흐름) */
+    public TimingWheel.Task schedule(long delayMillis, Runnable task) {
+        return wheel.schedule(toTicks(delayMillis), task);
+    }
+
+    /** periodMillis마다 반복 실행(스텝 기준이라 누적 오차 없음) */
+    public TimingWheel.Task scheduleRepeating(long periodMillis, Runnable task) {
+        long p = toTicks(periodMillis);
+        return wheel.scheduleRepeating(p, p, task);
+    }
+
+    /** 예약 작업 전부 취소 */
+    public void cancelAll() { wheel.clear(); }
+
+    /** 지금까지 진행한 시뮬레이션 스텝 수 */
+    public long getTick() { return tick; }
+
+    public int getStepsPerSecond() { return stepsPerSecond; }
+
+    // ---------- 프레임 통계 ----------
+
+    public long getFrameCount() { return frames; }
+
+    public long getUpdateCount() { return updates; }
+
+    public double getLastFrameMillis() { return lastFrameNanos / 1e6; }
+
+    public double getAvgFrameMillis() { return frames == 0 ? 0.0 : frameNanosSum / 1e6 / frames; }
+
+    public double getMaxFrameMillis() { return frameNanosMax / 1e6; }
+
+    public void resetStats() {
+        frames = 0;
+        frameNanosSum = 0;
+        frameNanosMax = 0;
+        lastFrameNanos = 0;
+        updates = 0;
+    }
+
+    public String statsSummary() {
+        return String.format("frames=%d updates=%d avg=%.2fms max=%.2fms",
+                frames, updates, getAvgFrameMillis(), getMaxFrameMillis());
+    }
+
+    // ---------- 내부 ----------
+
+    private void onPulse() {
+        long now = System.nanoTime();
+        long frame = now - lastNanos;
+        lastNanos = now;
+
+        frames++;
+        lastFrameNanos = frame;
+        frameNanosSum += frame;
+        if (frame > frameNanosMax) frameNanosMax = frame;
+
+        accumulator += Math.min(frame, MAX_FRAME_NANOS);
+        while (accumulator >= stepNanos) {
+            accumulator -= stepNanos;
+            tick++;
+            wheel.advanceTo(tick);
+            if (!running) return; // 예약 작업이 화면을 바꾸며 루프를 멈췄음
+            hooks.update(stepSeconds);
+            updates++;
+        }
+        hooks.render(accumulator / (double) stepNanos);
+    }
+
+    private long toTicks(long millis) {
+        return Math.max(1, (millis * stepsPerSecond + 999) / 1000);
+    }
+}
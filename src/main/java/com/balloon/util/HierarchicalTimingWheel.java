@@ -0,0 +1,159 @@
+package com.balloon.util;
+
+/**
+ * HierarchicalTimingWheel
+ * - 계층형 타이밍 휠: 64칸짜리 휠 4단(1틱 / 64틱 / 4096틱 / 262144틱 단위) → 2^24틱(60Hz면 약 77시간)까지 그대로 담는다.
+ *   그보다 먼 예약은 맨 위 단의 0번 칸에 두었다가 2^24틱 경계마다 내려올 때 다시 자리를 잡는다.
+ * - 예약은 "마감 틱이 지금과 같은 블록에 드는 가장 낮은 단"에 넣는다. 아랫단 휠이 한 바퀴 돌 때마다
+ *   윗단 칸 하나만 아래로 풀어 내리므로(cascade) 틱 진행 비용은 대기 중인 예약 수와 무관한 O(1)(분할 상환).
+ * - 예약/취소/재예약 모두 O(1): 칸마다 이중 연결 리스트이고 Timer 객체를 재사용한다(다시 걸 때 할당 없음).
+ * - TimingWheel(단일 휠, 라운드 방식)과 달리 먼 예약도 매 바퀴 다시 훑지 않는다 → 오래가는 효과가 많아도 틱 비용이 그대로.
+ * - 스레드 안전하지 않음: 게임 루프 스레드에서만 사용.
+ */
+public final class HierarchicalTimingWheel {
+
+    /** 예약 하나. 한 번 만들어 두고 schedule()/cancel()로 몇 번이든 다시 건다 */
+    public static final class Timer {
+        private final Runnable action;
+        private long deadline;
+        private int bucket = -1; // 들어 있는 칸(단 * SLOTS + 칸), 없으면 -1
+        private Timer prev, next;
+
+        public Timer(Runnable action) {
+            this.action = action;
+        }
+
+        /** 지금 예약돼 있는지 */
+        public boolean isScheduled() { return bucket >= 0; }
+
+        /** 마감 틱(예약돼 있을 때만 의미 있음) */
+        public long deadline() { return deadline; }
+    }
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;   // 64
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final Timer[] heads = new Timer[LEVELS * SLOTS];
+    private long now = 0;
+    private int size = 0;
+
+    /** 현재 틱 */
+    public long now() { return now; }
+
+    /** 예약된 타이머 수 */
+    public int size() { return size; }
+
+    /** delayTicks 틱 뒤(최소 1틱 뒤)에 실행. 이미 예약돼 있으면 새 마감으로 옮긴다 */
+    public void schedule(Timer t, long delayTicks) {
+        scheduleAt(t, now + Math.max(1, delayTicks));
+    }
+
+    /** 틱 deadline에 실행(지났으면 다음 틱). 이미 예약돼 있으면 새 마감으로 옮긴다 */
+    public void scheduleAt(Timer t, long deadline) {
+        if (t.bucket >= 0) unlink(t); else size++;
+        t.deadline = Math.max(now + 1, deadline);
+        insert(t);
+    }
+
+    /** 예약 취소. 예약돼 있었으면 true */
+    public boolean cancel(Timer t) {
+        if (t.bucket < 0) return false;
+        unlink(t);
+        size--;
+        return true;
+    }
+
+    /** 남은 틱(예약 안 돼 있으면 0) */
+    public long remaining(Timer t) {
+        return (t.bucket < 0) ? 0 : t.deadline - now;
+    }
+
+    /**
+     * 현재 틱을 tick까지 한 틱씩 진행하며 마감된 타이머를 실행한다.
+     * 실행 중에 schedule()/cancel()을 불러도 안전하다(같은 타이머를 다시 걸어도 됨).
+     */
+    public void advanceTo(long tick) {
+        while (now < tick) {
+            now++;
+            // 블록 경계면 윗단부터 한 칸씩 풀어 내림
+            if ((now & MASK) == 0) {
+                int top = 1;
+                while (top < LEVELS - 1 && ((now >>> (BITS * top)) & MASK) == 0) top++;
+                for (int level = top; level >= 1; level--) cascade(level, (int) ((now >>> (BITS * level)) & MASK));
+            }
+            fire((int) (now & MASK));
+        }
+    }
+
+    /** 모든 예약 취소 */
+    public void clear() {
+        for (int b = 0; b < heads.length; b++) {
+            Timer t = heads[b];
+            heads[b] = null;
+            while (t != null) {
+                Timer n = t.next;
+                t.prev = t.next = null;
+                t.bucket = -1;
+                t = n;
+            }
+        }
+        size = 0;
+    }
+
+    // ---------- 내부 ----------
+
+    /** 마감이 지금과 같은 블록에 드는 가장 낮은 단에 넣는다 */
+    private void insert(Timer t) {
+        long d = t.deadline;
+        int level = 0;
+        while (level < LEVELS && (d >>> (BITS * (level + 1))) != (now >>> (BITS * (level + 1)))) level++;
+        int slot;
+        if (level == LEVELS) {
+            // 휠 전체보다 멂: 맨 윗단 0번 칸(다음 2^24틱 경계에 풀림, 다른 예약은 들어가지 않는 칸)에 두고
+            // 내려올 때마다 다시 계산 → 마감 블록을 지나치지 않는다
+            level = LEVELS - 1;
+            slot = 0;
+        } else {
+            slot = (int) ((d >>> (BITS * level)) & MASK);
+        }
+        int b = level * SLOTS + slot;
+        t.bucket = b;
+        t.prev = null;
+        t.next = heads[b];
+        if (t.next != null) t.next.prev = t;
+        heads[b] = t;
+    }
+
+    private void unlink(Timer t) {
+        if (t.prev != null) t.prev.next = t.next; else heads[t.bucket] = t.next;
+        if (t.next != null) t.next.prev = t.prev;
+        t.prev = t.next = null;
+        t.bucket = -1;
+    }
+
+    /** 윗단 칸 하나를 비우고 안의 타이머를 (이제 더 가까워진) 아랫단에 다시 넣는다 */
+    private void cascade(int level, int slot) {
+        int b = level * SLOTS + slot;
+        Timer t = heads[b];
+        heads[b] = null;
+        while (t != null) {
+            Timer n = t.next;
+            t.prev = t.next = null;
+            insert(t);
+            t = n;
+        }
+    }
+
+    /** 0단 칸의 타이머 실행(칸 안은 모두 마감 = now) */
+    private void fire(int slot) {
+        Timer t;
+        // 하나씩 떼어 내며 실행: 실행 중 같은 칸에 다른 타이머가 취소/추가돼도 리스트가 꼬이지 않음
+        while ((t = heads[slot]) != null) {
+            unlink(t);
+            size--;
+            t.action.run();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.balloon.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * RngStream
+ * - 시드로 재현 가능한 난수 흐름(SplittableRandom 기반).
+ * - 게임 한 판(세션)이 시드 하나를 갖고, 용도별(아이템 드랍, 단어 뽑기 …)로 split()한 자식 흐름을 나눠 쓴다.
+ *   → 같은 시드 + 같은 입력이면 같은 결과: 신고된 판을 그대로 다시 돌리거나, 시뮬레이션을 스레드별로 나눠 돌릴 수 있다.
+ * - 자식의 시드는 부모 흐름에서 뽑으므로 자식도 seed()로 기록/재현할 수 있다.
+ * - 스레드 안전하지 않음: 스레드마다(세션마다) 자기 흐름을 split해서 쓴다.
+ */
+public final class RngStream {
+
+    private final long seed;
+    private final SplittableRandom rnd;
+
+    public RngStream(long seed) {
+        this.seed = seed;
+        this.rnd = new SplittableRandom(seed);
+    }
+
+    /** 시드를 새로 정해서(기록해 두면 나중에 재현 가능) */
+    public static RngStream random() {
+        return new RngStream(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * 기준 시드 + 번호로 독립 흐름(시뮬레이션의 "n번째 판" 등).
+     * 어느 스레드에서 몇 번째로 만들든 같은 (seed, index)면 같은 흐름 → 병렬 실행 결과도 재현 가능.
+     */
+    public static RngStream of(long seed, long index) {
+        return new RngStream(new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L)).nextLong());
+    }
+
+    public long seed() { return seed; }
+
+    /** 독립적인 자식 흐름(부모의 다음 값이 자식 시드) */
+    public RngStream split() {
+        return new RngStream(rnd.nextLong());
+    }
+
+    public long nextLong() { return rnd.nextLong(); }
+
+    public int nextInt(int bound) { return rnd.nextInt(bound); }
+
+    public boolean nextBoolean() { return rnd.nextBoolean(); }
+
+    public double nextDouble() { return rnd.nextDouble(); }
+}
@@ -0,0 +1,119 @@
+package com.balloon.util;
+
+/**
+ * TimingWheel
+ * - "몇 틱 뒤에 실행" 예약 작업을 담는 원형 슬롯 배열(해시드 타이밍 휠).
+ * - 예약/취소 O(1), 틱 진행 시 해당 슬롯만 훑는다(전체 작업 정렬/우선순위 큐 없음).
+ * - 슬롯 수보다 먼 예약은 같은 슬롯에 두고 마감 틱(deadline)으로 걸러낸다(라운드 방식).
+ * - 스레드 안전하지 않음: GameLoop와 같은 스레드(EDT)에서만 사용.
+ */
+public final class TimingWheel {
+
+    /** 예약된 작업 핸들. cancel()하면 다음에 슬롯을 지날 때 버려진다 */
+    public static final class Task {
+        private final Runnable action;
+        private final long period;   // 0이면 한 번만
+        private long deadline;
+        private boolean cancelled;
+        private Task next;
+
+        private Task(Runnable action, long deadline, long period) {
+            this.action = action;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        public void cancel() { cancelled = true; }
+
+        public boolean isCancelled() { return cancelled; }
+
+        /** 아직 실행 대기 중인지(한 번짜리가 실행됐거나 취소됐으면 false) */
+        public boolean isPending() { return !cancelled; }
+    }
+
+    private final Task[] slots;
+    private final int mask;
+    private long now = 0;
+    private int size = 0;
+    private int generation = 0; // clear()될 때마다 증가(실행 중 clear 감지용)
+
+    /** @param slotCount 슬롯 수(2의 거듭제곱으로 올림) */
+    public TimingWheel(int slotCount) {
+        int n = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.slots = new Task[n];
+        this.mask = n - 1;
+    }
+
+    /** delayTicks 틱 뒤 한 번 실행(최소 1틱 뒤) */
+    public Task schedule(long delayTicks, Runnable action) {
+        return insert(new Task(action, now + Math.max(1, delayTicks), 0));
+    }
+
+    /** delayTicks 틱 뒤부터 periodTicks마다 반복 실행 */
+    public Task scheduleRepeating(long delayTicks, long periodTicks, Runnable action) {
+        return insert(new Task(action, now + Math.max(1, delayTicks), Math.max(1, periodTicks)));
+    }
+
+    /**
+     * 현재 틱을 tick까지 한 틱씩 진행하며 마감된 작업을 실행한다.
+     * 작업 안에서 schedule()/clear()를 불러도 안전하다.
+     */
+    public void advanceTo(long tick) {
+        while (now < tick) {
+            now++;
+            int i = (int) (now & mask);
+            Task t = slots[i];
+            slots[i] = null;
+            int gen = generation;
+
+            while (t != null) {
+                Task next = t.next;
+                t.next = null;
+                if (t.cancelled) {
+                    size--;
+                } else if (t.deadline <= now) {
+                    size--;
+                    if (t.period > 0) {
+                        t.deadline += t.period;
+                        insert(t);
+                    } else {
+                        t.cancelled = true; // 실행 완료 → 더 이상 대기 아님
+                    }
+                    t.action.run();
+                    if (gen != generation) { // 작업이 휠을 비웠음: 남은 목록도 버림
+                        for (Task r = next; r != null; r = r.next) r.cancelled = true;
+                        break;
+                    }
+                } else {
+                    t.next = slots[i]; // 다음 라운드
+                    slots[i] = t;
+                }
+                t = next;
+            }
+        }
+    }
+
+    /** 모든 예약 취소 */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            for (Task t = slots[i]; t != null; t = t.next) t.cancelled = true;
+            slots[i] = null;
+        }
+        size = 0;
+        generation++;
+    }
+
+    /** 현재 틱 */
+    public long now() { return now; }
+
+    /** 대기 중인 작업 수(취소됐지만 아직 슬롯을 지나지 않은 것 포함) */
+    public int size() { return size; }
+
+    private Task insert(Task t) {
+        int i = (int) (t.deadline & mask);
+        t.next = slots[i];
+        slots[i] = t;
+        size++;
+        return t;
+    }
+}
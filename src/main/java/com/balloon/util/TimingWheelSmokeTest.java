@@ -0,0 +1,109 @@
+package com.balloon.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * HierarchicalTimingWheel 확인용(ItemsSmokeTest처럼 main으로 실행).
+ *     java com.balloon.util.TimingWheelSmokeTest [작업 수=200000] [seed=7]
+ * - 무작위 예약/재예약/취소를 섞어 돌리면서 "각 타이머가 마지막으로 건 마감 틱에 정확히 한 번" 실행되는지
+ *   단순 기록(마감 배열)과 비교한다. 실행 중 재예약, 단 경계(64/4096/262144틱), 2^24틱 넘는 예약 포함.
+ * - 하나라도 어긋나면 MISMATCH를 찍고 종료 코드 1.
+ */
+public class TimingWheelSmokeTest {
+
+    private static final long FAR = 1L << 24; // 휠 4단이 한 번에 담는 범위
+
+    public static void main(String[] args) {
+        int ops = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 7L;
+        boolean ok = randomOps(ops, seed);
+        ok &= farTimers();
+        System.out.println(ok ? "=== OK ===" : "=== MISMATCH ===");
+        if (!ok) System.exit(1);
+    }
+
+    /** 무작위 예약/취소를 기록과 비교 */
+    private static boolean randomOps(int ops, long seed) {
+        System.out.println("=== 무작위 예약/취소 " + ops + "회 (seed=" + seed + ") ===");
+        HierarchicalTimingWheel w = new HierarchicalTimingWheel();
+        SplittableRandom r = new SplittableRandom(seed);
+        int n = 2000;
+        HierarchicalTimingWheel.Timer[] timers = new HierarchicalTimingWheel.Timer[n];
+        long[] due = new long[n];          // 기록: 마지막으로 건 마감(-1 = 안 걸림)
+        long[] errors = {0}, fired = {0};
+
+        for (int i = 0; i < n; i++) {
+            final int k = i;
+            timers[i] = new HierarchicalTimingWheel.Timer(() -> {
+                if (due[k] != w.now()) errors[0]++; // 일찍/늦게/취소됐는데 실행
+                due[k] = -1;
+                fired[0]++;
+                if (r.nextInt(4) == 0) { // 실행 중 재예약
+                    long d = delay(r);
+                    due[k] = w.now() + d;
+                    w.schedule(timers[k], d);
+                }
+            });
+            due[i] = -1;
+        }
+
+        long tick = 0;
+        for (int op = 0; op < ops; op++) {
+            int k = r.nextInt(n);
+            if (r.nextInt(10) == 0) {
+                w.cancel(timers[k]);
+                due[k] = -1;
+            } else {
+                long d = delay(r);
+                due[k] = w.now() + d;
+                w.schedule(timers[k], d);
+            }
+            tick += r.nextInt(200);
+            w.advanceTo(tick);
+        }
+
+        // 끝난 뒤: 기록상 걸려 있는 것 = 휠에 걸려 있는 것(같은 마감), 이미 지난 마감 없음
+        int pending = 0;
+        for (int i = 0; i < n; i++) {
+            boolean want = due[i] >= 0;
+            if (want != timers[i].isScheduled()) errors[0]++;
+            if (want) {
+                pending++;
+                if (timers[i].deadline() != due[i] || due[i] <= w.now()) errors[0]++;
+            }
+        }
+        if (pending != w.size()) errors[0]++;
+        System.out.printf("fired=%,d pending=%,d size=%,d errors=%d%n", fired[0], pending, w.size(), errors[0]);
+        return errors[0] == 0;
+    }
+
+    /** 2^24틱보다 먼 예약이 정확한 틱에 실행되는지 */
+    private static boolean farTimers() {
+        System.out.println("\n=== 2^24틱 넘는 예약 ===");
+        boolean ok = true;
+        long[] delays = {FAR - 1, FAR, FAR + 1, 3 * FAR + 5, 5 * FAR + 123_456};
+        for (long d : delays) {
+            HierarchicalTimingWheel w = new HierarchicalTimingWheel();
+            long[] at = {-1};
+            w.advanceTo(777); // 블록 경계가 아닌 곳에서 시작
+            long want = w.now() + d;
+            w.schedule(new HierarchicalTimingWheel.Timer(() -> at[0] = w.now()), d);
+            w.advanceTo(want + 10);
+            boolean good = at[0] == want && w.size() == 0;
+            ok &= good;
+            System.out.println("delay=" + d + " → fired at " + at[0] + (good ? " OK" : " (want " + want + ")"));
+        }
+        return ok;
+    }
+
+    /** 0단/1단/2단/3단/범위 밖이 골고루 섞이게 */
+    private static long delay(SplittableRandom r) {
+        switch (r.nextInt(5)) {
+            case 0:  return 1 + r.nextInt(64);
+            case 1:  return 1 + r.nextInt(4096);
+            case 2:  return 1 + r.nextInt(262_144);
+            case 3:  return 1 + r.nextLong(FAR);
+            default: return FAR + r.nextLong(2 * FAR);
+        }
+    }
+}